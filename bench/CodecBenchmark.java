@@ -0,0 +1,82 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * <p>Compares {@link MinefieldCodec} with a naive serialisation of every {@link Tile} in bytes per tile and
+ * encoded tiles per second.</p>
+ * <p>Usage: {@code CodecBenchmark [size] [clicks] [rounds]}</p>
+ */
+public class CodecBenchmark {
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int clicks = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        Minefield field = new Minefield(size, size, 0.15F, new MinefieldConfig().setSeed(1L));
+        List<MinefieldDelta> deltas = new ArrayList<>();
+        field.addListener(deltas::add);
+        field.init(size / 2, size / 2);
+        SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < clicks; i++) {
+            field.uncoverTiles(random.nextInt(size), random.nextInt(size));
+        }
+        long tiles = (long) size * size;
+        long deltaTiles = deltas.stream().mapToLong(MinefieldDelta::size).sum();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MinefieldCodec.getMaxBoardLength(size, size));
+
+        long naiveNanos = Long.MAX_VALUE;
+        long naiveBytes = 0;
+        long boardNanos = Long.MAX_VALUE;
+        long boardBytes = 0;
+        long deltaNanos = Long.MAX_VALUE;
+        long deltaBytes = 0;
+        for (int round = 0; round < rounds; round++) {
+            long start = System.nanoTime();
+            naiveBytes = encodeNaively(field);
+            naiveNanos = Math.min(naiveNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            buffer.clear();
+            MinefieldCodec.encodeBoard(field.getBoard(), buffer);
+            boardBytes = buffer.position();
+            boardNanos = Math.min(boardNanos, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            deltaBytes = 0;
+            for (MinefieldDelta delta : deltas) {
+                buffer.clear();
+                MinefieldCodec.encodeDelta(delta, buffer);
+                deltaBytes += buffer.position();
+            }
+            deltaNanos = Math.min(deltaNanos, System.nanoTime() - start);
+        }
+        System.out.printf("%dx%d after %d clicks, %d tiles uncovered%n", size, size, clicks, deltaTiles);
+        report("naive per tile", naiveBytes, tiles, naiveNanos);
+        report("full board", boardBytes, tiles, boardNanos);
+        report("deltas", deltaBytes, deltaTiles, deltaNanos);
+    }
+
+    private static long encodeNaively(Minefield field) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Tile[] row : field.getTilesArray()) {
+            for (Tile tile : row) {
+                out.writeBoolean(tile.isUncovered());
+                out.writeBoolean(tile.isFlagged());
+                out.writeBoolean(tile.isUncovered() && tile.isMine());
+                out.writeInt(tile.isUncovered() ? tile.getMinesAround() : 0);
+            }
+        }
+        out.flush();
+        return bytes.size();
+    }
+
+    private static void report(String name, long bytes, long tiles, long nanos) {
+        System.out.printf("%-15s %10d bytes %8.3f bytes/tile %10.1f Mtiles/s%n", name, bytes, (double) bytes / tiles,
+                tiles * 1e3 / nanos);
+    }
+}
@@ -0,0 +1,100 @@
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Drives simulated players against a {@link GameActorSystem} and reports the throughput and the latency of
+ * every command.</p>
+ * <p>Every player has one command in flight at a time and sends the next one as soon as the previous one
+ * completed, so the load adapts to the speed of the games. A rejected command is retried after a millisecond.</p>
+ * <p>Usage: {@code GameLoadGenerator [--games n] [--players n] [--size n] [--mines p] [--seconds n]
+ * [--capacity n]}</p>
+ */
+public class GameLoadGenerator {
+    private final GameActorSystem system;
+    private final long[] games;
+    private final int size;
+    private final ScheduledExecutorService retries = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService players = new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile boolean running = true;
+
+    private GameLoadGenerator(GameActorSystem system, long[] games, int size) {
+        this.system = system;
+        this.games = games;
+        this.size = size;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int numberOfGames = Integer.parseInt(options.getOrDefault("games", "1000"));
+        int players = Integer.parseInt(options.getOrDefault("players", "10000"));
+        int size = Integer.parseInt(options.getOrDefault("size", "100"));
+        float minePercentage = Float.parseFloat(options.getOrDefault("mines", "0.15"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "10"));
+        int capacity = Integer.parseInt(options.getOrDefault("capacity",
+                String.valueOf(GameActorSystem.DEFAULT_MAILBOX_CAPACITY)));
+        try (GameActorSystem system = new GameActorSystem(GameActorSystem.newDefaultExecutor(), capacity)) {
+            long[] games = new long[numberOfGames];
+            CompletableFuture<?>[] inits = new CompletableFuture<?>[numberOfGames];
+            for (int i = 0; i < numberOfGames; i++) {
+                games[i] = system.createGame(size, size, minePercentage);
+                inits[i] = system.send(games[i], GameActor.Command.INIT, size / 2, size / 2);
+            }
+            CompletableFuture.allOf(inits).join();
+            GameLoadGenerator generator = new GameLoadGenerator(system, games, size);
+            SplittableRandom seeds = new SplittableRandom(1);
+            long start = System.nanoTime();
+            for (int player = 0; player < players; player++) {
+                generator.play(games[player % numberOfGames], seeds.split());
+            }
+            Thread.sleep(TimeUnit.SECONDS.toMillis(seconds));
+            generator.running = false;
+            double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+            generator.retries.shutdown();
+            generator.players.shutdown();
+            System.out.printf("%d games, %d players, %dx%d: %.0f commands/s, %d rejected%n", numberOfGames, players,
+                    size, size, generator.completed.sum() / elapsedSeconds, generator.rejected.sum());
+            for (GameActor.Command command : GameActor.Command.values()) {
+                System.out.printf("%-8s %s%n", command, system.getLatency(command));
+            }
+        }
+    }
+
+    private void play(long game, SplittableRandom random) {
+        if (!running) return;
+        GameActor.Command command = random.nextInt(4) == 0 ? GameActor.Command.FLAG : GameActor.Command.UNCOVER;
+        try {
+            system.send(game, command, random.nextInt(size), random.nextInt(size))
+                    // continue on another thread, so a command that completes at once does not recurse
+                    .whenCompleteAsync((result, failure) -> {
+                        completed.increment();
+                        play(game, random);
+                    }, players);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            if (running) retries.schedule(() -> play(game, random), 1, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+}
@@ -0,0 +1,274 @@
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * <p>Benchmarks the hot paths of {@link Minefield} over a matrix of field sizes and mine percentages.</p>
+ * <p>Every benchmark prepares its field outside of the measured time and measures the average time of one
+ * operation, like JMH in {@code avgt} mode. An iteration repeats invocations until 100 ms have been measured or,
+ * for benchmarks with an expensive preparation, two seconds have passed. Results are printed as a table and can be written as JSON in the
+ * layout of JMH's {@code -rf json}, so the usual JMH tooling can compare two runs.</p>
+ * <p>JMH itself cannot be used, because it rejects benchmark classes in the default package and the field
+ * classes are only reachable from there.</p>
+ * <p>Usage: {@code MinefieldBenchmark [--benchmarks a,b] [--sizes 9,100] [--mines 0.12,0.2] [--warmup n]
+ * [--iterations n] [--json file]}</p>
+ */
+public class MinefieldBenchmark {
+    private static final long MIN_ITERATION_NANOS = 100_000_000L;
+    private static final long MAX_ITERATION_NANOS = 2_000_000_000L;
+    private static final int MAX_TILES_PER_INVOCATION = 1000;
+    private static final Map<String, Benchmark> BENCHMARKS = new LinkedHashMap<>();
+
+    static {
+        BENCHMARKS.put("construct", (size, minePercentage) -> new Invocation(1) {
+            @Override
+            void run() {
+                new Minefield(size, size, minePercentage);
+            }
+        });
+        BENCHMARKS.put("init", (size, minePercentage) -> {
+            Minefield field = new Minefield(size, size, minePercentage);
+            return new Invocation(1) {
+                @Override
+                void run() {
+                    field.init(size / 2, size / 2);
+                }
+            };
+        });
+        BENCHMARKS.put("uncoverTilesCascade", (size, minePercentage) -> {
+            Minefield field = newInitializedField(size, minePercentage);
+            return new Invocation(1) {
+                @Override
+                void run() {
+                    field.uncoverTiles(size / 2, size / 2);
+                }
+            };
+        });
+        BENCHMARKS.put("uncoverTilesWorstCase", (size, minePercentage) -> {
+            Minefield field = newInitializedField(size, 0F);
+            return new Invocation(1) {
+                @Override
+                void run() {
+                    field.uncoverTiles(size / 2, size / 2);
+                }
+            };
+        });
+        BENCHMARKS.put("uncoverTilesSingle", (size, minePercentage) -> {
+            Minefield field = newInitializedField(size, minePercentage);
+            int[][] positions = getNumberedPositions(field);
+            return new Invocation(positions.length) {
+                @Override
+                void run() {
+                    for (int[] pos : positions) {
+                        field.uncoverTiles(pos[0], pos[1]);
+                    }
+                }
+            };
+        });
+        BENCHMARKS.put("uncoverTilesBatch", (size, minePercentage) -> {
+            Minefield field = newInitializedField(size, minePercentage);
+            int[][] positions = getNumberedPositions(field);
+            int[] indices = new int[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                indices[i] = positions[i][0] * size + positions[i][1];
+            }
+            return new Invocation(positions.length) {
+                @Override
+                void run() {
+                    field.applyBatch(MinefieldJournal.UNCOVER, indices);
+                }
+            };
+        });
+        BENCHMARKS.put("alterTileFlagged", (size, minePercentage) -> {
+            Minefield field = newInitializedField(size, minePercentage);
+            int[][] positions = getNumberedPositions(field);
+            return new Invocation(positions.length) {
+                @Override
+                void run() {
+                    for (int[] pos : positions) {
+                        field.alterTileFlagged(pos[0], pos[1]);
+                    }
+                }
+            };
+        });
+        BENCHMARKS.put("countMinesAround", (size, minePercentage) -> newCountInvocation(
+                new ByteBoard(size, size), minePercentage));
+        BENCHMARKS.put("countMinesAroundBitset", (size, minePercentage) -> newCountInvocation(
+                new BitsetBoard(size, size), minePercentage));
+    }
+
+    private interface Benchmark {
+        Invocation prepare(int size, float minePercentage);
+    }
+
+    private abstract static class Invocation {
+        final int operations;
+
+        Invocation(int operations) {
+            this.operations = Math.max(operations, 1);
+        }
+
+        abstract void run();
+    }
+
+    private static class Result {
+        final String benchmark;
+        final int size;
+        final float minePercentage;
+        final double[] nanosPerOperation;
+
+        Result(String benchmark, int size, float minePercentage, double[] nanosPerOperation) {
+            this.benchmark = benchmark;
+            this.size = size;
+            this.minePercentage = minePercentage;
+            this.nanosPerOperation = nanosPerOperation;
+        }
+
+        double getScore() {
+            return Arrays.stream(nanosPerOperation).average().orElse(Double.NaN);
+        }
+
+        double getScoreError() {
+            if (nanosPerOperation.length < 2) return Double.NaN;
+            double mean = getScore();
+            double variance = Arrays.stream(nanosPerOperation).map(v -> (v - mean) * (v - mean)).sum()
+                    / (nanosPerOperation.length - 1);
+            return 2.576 * Math.sqrt(variance / nanosPerOperation.length);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        List<String> benchmarks = splitOption(options, "benchmarks", String.join(",", BENCHMARKS.keySet()));
+        List<String> sizes = splitOption(options, "sizes", "9,30,100,500,1000,4000");
+        List<String> minePercentages = splitOption(options, "mines", "0.05,0.12,0.2");
+        int warmup = Integer.parseInt(options.getOrDefault("warmup", "3"));
+        int iterations = Integer.parseInt(options.getOrDefault("iterations", "5"));
+        List<Result> results = new ArrayList<>();
+        for (String name : benchmarks) {
+            Benchmark benchmark = BENCHMARKS.get(name);
+            if (benchmark == null) throw new IllegalArgumentException("unknown benchmark " + name);
+            for (String size : sizes) {
+                for (String minePercentage : minePercentages) {
+                    Result result = measure(name, benchmark, Integer.parseInt(size), Float.parseFloat(minePercentage),
+                            warmup, iterations);
+                    System.out.printf("%-22s %6d %6.3f %16.1f +- %.1f ns/op%n", result.benchmark, result.size,
+                            result.minePercentage, result.getScore(), result.getScoreError());
+                    results.add(result);
+                }
+            }
+        }
+        if (options.containsKey("json")) writeJson(Path.of(options.get("json")), results, warmup, iterations);
+    }
+
+    static Result measure(String name, Benchmark benchmark, int size, float minePercentage, int warmup, int iterations) {
+        for (int i = 0; i < warmup; i++) {
+            runIteration(benchmark, size, minePercentage);
+        }
+        double[] nanosPerOperation = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            nanosPerOperation[i] = runIteration(benchmark, size, minePercentage);
+        }
+        return new Result(name, size, minePercentage, nanosPerOperation);
+    }
+
+    private static double runIteration(Benchmark benchmark, int size, float minePercentage) {
+        long measuredNanos = 0;
+        long operations = 0;
+        long iterationStart = System.nanoTime();
+        while (measuredNanos < MIN_ITERATION_NANOS && System.nanoTime() - iterationStart < MAX_ITERATION_NANOS) {
+            Invocation invocation = benchmark.prepare(size, minePercentage);
+            long start = System.nanoTime();
+            invocation.run();
+            measuredNanos += System.nanoTime() - start;
+            operations += invocation.operations;
+        }
+        return (double) measuredNanos / operations;
+    }
+
+    private static Invocation newCountInvocation(Board board, float minePercentage) {
+        int size = board.getXSize();
+        board.placeMines(new FisherYatesMinePlacer().placeMines(size, size, 0, new int[] {0},
+                (int) (size * size * minePercentage), RandomSource.threadLocal()));
+        return new Invocation(1) {
+            @Override
+            void run() {
+                board.countMinesAround(false);
+            }
+        };
+    }
+
+    private static Minefield newInitializedField(int size, float minePercentage) {
+        Minefield field = new Minefield(size, size, minePercentage);
+        field.init(size / 2, size / 2);
+        return field;
+    }
+
+    private static int[][] getNumberedPositions(Minefield field) {
+        List<int[]> positions = new ArrayList<>();
+        Tile[][] tileArray = field.getTilesArray();
+        for (int x = 0; x < field.getXSize() && positions.size() < MAX_TILES_PER_INVOCATION; x++) {
+            for (int y = 0; y < field.getYSize() && positions.size() < MAX_TILES_PER_INVOCATION; y++) {
+                Tile tile = tileArray[x][y];
+                if (!tile.isMine() && tile.getMinesAround() != 0) positions.add(new int[] {x, y});
+            }
+        }
+        return positions.toArray(new int[0][]);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 == args.length) {
+                throw new IllegalArgumentException("expected --option value, got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private static List<String> splitOption(Map<String, String> options, String key, String defaultValue) {
+        return Arrays.asList(options.getOrDefault(key, defaultValue).split(","));
+    }
+
+    private static void writeJson(Path path, List<Result> results, int warmup, int iterations) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(path), false, StandardCharsets.UTF_8)) {
+            out.println("[");
+            for (int i = 0; i < results.size(); i++) {
+                Result result = results.get(i);
+                out.println("    {");
+                out.println("        \"benchmark\" : \"MinefieldBenchmark." + result.benchmark + "\",");
+                out.println("        \"mode\" : \"avgt\",");
+                out.println("        \"warmupIterations\" : " + warmup + ",");
+                out.println("        \"measurementIterations\" : " + iterations + ",");
+                out.println("        \"params\" : {");
+                out.println("            \"size\" : \"" + result.size + "\",");
+                out.println("            \"minePercentage\" : \"" + result.minePercentage + "\"");
+                out.println("        },");
+                out.println("        \"primaryMetric\" : {");
+                out.println("            \"score\" : " + toJson(result.getScore()) + ",");
+                out.println("            \"scoreError\" : " + toJson(result.getScoreError()) + ",");
+                out.println("            \"scoreUnit\" : \"ns/op\",");
+                out.println("            \"rawData\" : [" + toJson(result.nanosPerOperation) + "]");
+                out.println("        }");
+                out.println(i + 1 < results.size() ? "    }," : "    }");
+            }
+            out.println("]");
+        }
+    }
+
+    private static String toJson(double[] values) {
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (double value : values) {
+            joiner.add(toJson(value));
+        }
+        return joiner.toString();
+    }
+
+    private static String toJson(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "\"NaN\"";
+    }
+}
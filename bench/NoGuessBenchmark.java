@@ -0,0 +1,36 @@
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <p>Measures how long {@link NoGuessMinePlacer} takes to generate a solvable field, sequentially and with
+ * candidates tried on all processors.</p>
+ * <p>Usage: {@code NoGuessBenchmark [xSize] [ySize] [mines] [fields]}, by default expert fields of 30x16 tiles
+ * with 99 mines.</p>
+ */
+public class NoGuessBenchmark {
+    public static void main(String[] args) {
+        int xSize = args.length > 0 ? Integer.parseInt(args[0]) : 30;
+        int ySize = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int mines = args.length > 2 ? Integer.parseInt(args[2]) : 99;
+        int fields = args.length > 3 ? Integer.parseInt(args[3]) : 2000;
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int parallelism : processors > 1 ? new int[] {1, processors} : new int[] {1}) {
+            MinePlacer placer = new NoGuessMinePlacer(new FisherYatesMinePlacer(), ForkJoinPool.commonPool(),
+                    parallelism, 100_000);
+            measure(xSize, ySize, mines, fields / 4, placer);
+            LatencyHistogram latency = measure(xSize, ySize, mines, fields, placer);
+            System.out.printf("%dx%d with %d mines, parallelism %d: %s%n", xSize, ySize, mines, parallelism, latency);
+        }
+    }
+
+    private static LatencyHistogram measure(int xSize, int ySize, int mines, int fields, MinePlacer placer) {
+        LatencyHistogram latency = new LatencyHistogram();
+        MinefieldConfig config = new MinefieldConfig().setMinePlacer(placer);
+        for (int i = 0; i < fields; i++) {
+            Minefield field = new Minefield(xSize, ySize, (float) mines / (xSize * ySize), config.setSeed((long) i));
+            long start = System.nanoTime();
+            field.init(xSize / 2, ySize / 2);
+            latency.record(System.nanoTime() - start);
+        }
+        return latency;
+    }
+}
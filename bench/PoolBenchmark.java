@@ -0,0 +1,46 @@
+/**
+ * <p>Measures how long it takes to start a game at the first click, with a new field initialized directly and
+ * taken from a {@link BoardPool}. Games are started in bursts with a pause between them, in which the pool is
+ * refilled.</p>
+ * <p>Usage: {@code PoolBenchmark [xSize] [ySize] [minePercentage] [bursts] [burstSize] [pauseMillis]}, by default
+ * bursts of 16 fields of 1000x1000 tiles with 20% mines.</p>
+ */
+public class PoolBenchmark {
+    public static void main(String[] args) throws InterruptedException {
+        int xSize = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int ySize = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        float minePercentage = args.length > 2 ? Float.parseFloat(args[2]) : 0.2F;
+        int bursts = args.length > 3 ? Integer.parseInt(args[3]) : 20;
+        int burstSize = args.length > 4 ? Integer.parseInt(args[4]) : 16;
+        long pauseMillis = args.length > 5 ? Long.parseLong(args[5]) : 500;
+        measure(xSize, ySize, minePercentage, bursts / 4, burstSize, 0, null);
+        LatencyHistogram latency = measure(xSize, ySize, minePercentage, bursts, burstSize, pauseMillis, null);
+        System.out.printf("direct: %s%n", latency);
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), burstSize, 1)) {
+            pool.addPreset(xSize, ySize, minePercentage);
+            Thread.sleep(pauseMillis);
+            latency = measure(xSize, ySize, minePercentage, bursts, burstSize, pauseMillis, pool);
+            System.out.printf("pooled: %s hit rate %.3f%n", latency, pool.getHitRate());
+        }
+    }
+
+    private static LatencyHistogram measure(int xSize, int ySize, float minePercentage, int bursts, int burstSize,
+                                            long pauseMillis, BoardPool pool) throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        MinefieldConfig config = new MinefieldConfig();
+        for (int burst = 0; burst < bursts; burst++) {
+            for (int i = 0; i < burstSize; i++) {
+                int click = i * 7919 % (xSize * ySize);
+                long start = System.nanoTime();
+                if (pool == null) {
+                    new Minefield(xSize, ySize, minePercentage, config).init(click / ySize, click % ySize);
+                } else {
+                    pool.newGame(xSize, ySize, minePercentage, click / ySize, click % ySize, config);
+                }
+                latency.record(System.nanoTime() - start);
+            }
+            Thread.sleep(pauseMillis);
+        }
+        return latency;
+    }
+}
@@ -0,0 +1,64 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * <p>Compares the ways to rebuild a {@link Minefield} after a crash: loading a snapshot of the final state,
+ * loading an older snapshot and replaying the journal tail, and replaying the whole journal.</p>
+ * <p>Usage: {@code RecoveryBenchmark [size] [moves] [tailMoves] [rounds]}</p>
+ */
+public class RecoveryBenchmark {
+    public static void main(String[] args) throws IOException {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int moves = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int tailMoves = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        Path journal = Files.createTempFile("journal", ".bin");
+        Path oldSnapshot = Files.createTempFile("old-snapshot", ".bin");
+        Path fullSnapshot = Files.createTempFile("full-snapshot", ".bin");
+        try {
+            long seed = 42;
+            Minefield field = new Minefield(size, size, 0.2F,
+                    new MinefieldConfig().setSeed(seed));
+            field.setJournal(MinefieldJournal.create(journal, size, size, 0.2F, seed));
+            field.init(size / 2, size / 2);
+            SplittableRandom random = new SplittableRandom(seed);
+            for (int move = 0; move < moves; move++) {
+                if (move == moves - tailMoves) MinefieldSnapshot.save(field, oldSnapshot);
+                if (random.nextInt(4) == 0) {
+                    field.alterTileFlagged(random.nextInt(size), random.nextInt(size));
+                } else {
+                    field.uncoverTiles(random.nextInt(size), random.nextInt(size));
+                }
+            }
+            MinefieldSnapshot.save(field, fullSnapshot);
+            field.getJournal().close();
+            long snapshotNanos = Long.MAX_VALUE;
+            long tailNanos = Long.MAX_VALUE;
+            long replayNanos = Long.MAX_VALUE;
+            for (int round = 0; round < rounds; round++) {
+                long start = System.nanoTime();
+                touch(MinefieldSnapshot.load(fullSnapshot));
+                snapshotNanos = Math.min(snapshotNanos, System.nanoTime() - start);
+                start = System.nanoTime();
+                touch(MinefieldJournal.recover(oldSnapshot, journal, new MinefieldConfig()));
+                tailNanos = Math.min(tailNanos, System.nanoTime() - start);
+                start = System.nanoTime();
+                touch(MinefieldJournal.replay(journal, new MinefieldConfig()));
+                replayNanos = Math.min(replayNanos, System.nanoTime() - start);
+            }
+            System.out.printf("%dx%d, %d moves: snapshot %.2f ms, snapshot + %d journal records %.2f ms, "
+                            + "full journal replay %.2f ms%n", size, size, moves, snapshotNanos / 1e6, tailMoves,
+                    tailNanos / 1e6, replayNanos / 1e6);
+        } finally {
+            Files.delete(journal);
+            Files.delete(oldSnapshot);
+            Files.delete(fullSnapshot);
+        }
+    }
+
+    private static void touch(Minefield field) {
+        field.alterTileFlagged(0, 0);
+    }
+}
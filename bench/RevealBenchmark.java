@@ -0,0 +1,29 @@
+/**
+ * <p>Compares the time of one worst case cascade with {@link SequentialRevealEngine} and
+ * {@link ParallelRevealEngine} and prints the speed-up.</p>
+ * <p>Usage: {@code RevealBenchmark [size] [minePercentage] [rounds]}</p>
+ */
+public class RevealBenchmark {
+    public static void main(String[] args) {
+        int size = args.length > 0 ? Integer.parseInt(args[0]) : 4000;
+        float minePercentage = args.length > 1 ? Float.parseFloat(args[1]) : 0.01F;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+        long sequentialNanos = Long.MAX_VALUE;
+        long parallelNanos = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            sequentialNanos = Math.min(sequentialNanos, timeReveal(size, minePercentage, new SequentialRevealEngine()));
+            parallelNanos = Math.min(parallelNanos, timeReveal(size, minePercentage, new ParallelRevealEngine()));
+        }
+        System.out.printf("%dx%d, %.3f mines: sequential %.1f ms, parallel %.1f ms, speed-up %.2fx%n",
+                size, size, minePercentage, sequentialNanos / 1e6, parallelNanos / 1e6,
+                (double) sequentialNanos / parallelNanos);
+    }
+
+    private static long timeReveal(int size, float minePercentage, RevealEngine engine) {
+        Minefield field = new Minefield(size, size, minePercentage, new MinefieldConfig().setRevealEngine(engine));
+        field.init(size / 2, size / 2);
+        long start = System.nanoTime();
+        field.uncoverTiles(size / 2, size / 2);
+        return System.nanoTime() - start;
+    }
+}
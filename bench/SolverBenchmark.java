@@ -0,0 +1,36 @@
+/**
+ * <p>Measures how many games {@link AutoPlayer} plays per second on the standard presets, with its win rate.</p>
+ * <p>Usage: {@code SolverBenchmark [games] [rounds]}</p>
+ */
+public class SolverBenchmark {
+    private static final String[] PRESETS = {"beginner", "intermediate", "expert"};
+    private static final int[][] SIZES = {{9, 9, 10}, {16, 16, 40}, {30, 16, 99}};
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+        for (int preset = 0; preset < PRESETS.length; preset++) {
+            int xSize = SIZES[preset][0];
+            int ySize = SIZES[preset][1];
+            float minePercentage = (float) SIZES[preset][2] / (xSize * ySize);
+            long bestNanos = Long.MAX_VALUE;
+            int won = 0;
+            long guesses = 0;
+            for (int round = 0; round < rounds; round++) {
+                won = 0;
+                guesses = 0;
+                long start = System.nanoTime();
+                for (int game = 0; game < games; game++) {
+                    Minefield field = new Minefield(xSize, ySize, minePercentage,
+                            new MinefieldConfig().setSeed((long) game));
+                    AutoPlayer player = new AutoPlayer(field);
+                    if (player.play(xSize / 2, ySize / 2) == GameStatus.WON) won++;
+                    guesses += player.getGuesses();
+                }
+                bestNanos = Math.min(bestNanos, System.nanoTime() - start);
+            }
+            System.out.printf("%-12s %8.0f games/s, %5.1f%% won, %.2f guesses per game%n", PRESETS[preset],
+                    games * 1e9 / bestNanos, 100.0 * won / games, (double) guesses / games);
+        }
+    }
+}
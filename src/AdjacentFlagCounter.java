@@ -0,0 +1,39 @@
+/**
+ * <p>Number of flagged tiles around every tile of a board.</p>
+ * <p>Counts are updated for the eight neighbours whenever a tile is flagged or unflagged, so reading one never
+ * rescans the neighbourhood. Only tiles next to a flag have an entry, so the memory grows with the number of
+ * flags, not with the size of the board.</p>
+ * <p>Methods are synchronized, because a {@link GameSession} flags tiles of different regions concurrently and
+ * their neighbourhoods can overlap.</p>
+ */
+public class AdjacentFlagCounter {
+    private final int xSize;
+    private final int ySize;
+    private final IntByteHashMap flagsAround = new IntByteHashMap();
+
+    public AdjacentFlagCounter(int xSize, int ySize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+    }
+
+    public synchronized void flagChanged(int index, boolean flagged) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                int around = x * ySize + y;
+                if (around == index) continue;
+                int flags = flagsAround.get(around, 0) + (flagged ? 1 : -1);
+                if (flags == 0) {
+                    flagsAround.remove(around);
+                } else {
+                    flagsAround.put(around, flags);
+                }
+            }
+        }
+    }
+
+    public synchronized int getFlagsAround(int index) {
+        return flagsAround.get(index, 0);
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * <p>Plays a {@link Minefield} to the end like a careful player.</p>
+ * <p>The player only sees what a human would: the tiles it uncovers come back as a {@link MinefieldDelta}, which
+ * is fed to a {@link MinefieldSolver}, so the work per move grows with the uncovered tiles and not with the
+ * board. It uncovers what logic proves safe and guesses the tile least likely to be a mine when logic runs
+ * out.</p>
+ */
+public class AutoPlayer {
+    private final Minefield field;
+    private MinefieldSolver solver;
+    private int guesses;
+
+    public AutoPlayer(Minefield field) {
+        this.field = field;
+    }
+
+    /**
+     * <p>Initializes the field at the given position if it is not started yet and plays until the game is won or
+     * lost.</p>
+     */
+    public GameStatus play(int xPos, int yPos) {
+        if (field.getStatus() == GameStatus.NOT_STARTED) field.init(xPos, yPos);
+        solver = new MinefieldSolver(field.getXSize(), field.getYSize(), field.getMines(), this::reveal);
+        if (field.getUncoveredSafeTiles() > 0) learnUncoveredTiles();
+        solver.uncover(xPos * field.getYSize() + yPos);
+        while (field.getStatus() == GameStatus.RUNNING && !solver.propagate() && !solver.isDetonated()) {
+            int guess = solver.getSafestTile();
+            if (guess < 0) break;
+            guesses++;
+            solver.uncover(guess);
+        }
+        return field.getStatus();
+    }
+
+    /**
+     * @return the number of tiles uncovered without proof they are safe
+     */
+    public int getGuesses() {
+        return guesses;
+    }
+
+    private void reveal(int index) {
+        int xPos = index / field.getYSize();
+        int yPos = index % field.getYSize();
+        if (CellState.isFlagged(field.getBoard().getCell(index))) field.alterTileFlagged(xPos, yPos);
+        MinefieldDelta delta = field.uncoverTiles(xPos, yPos);
+        for (int i = 0; i < delta.size(); i++) {
+            solver.learn(delta.getIndex(i), delta.getCell(i));
+        }
+    }
+
+    private void learnUncoveredTiles() {
+        Board board = field.getBoard();
+        for (int index = 0; index < board.getNumberOfTiles(); index++) {
+            int cell = board.getCell(index);
+            if (!CellState.isUncovered(cell)) continue;
+            // the solver only learns what a player sees of the tile
+            solver.learn(index, cell & (CellState.MINES_AROUND | CellState.UNCOVERED | CellState.DETONATED));
+        }
+    }
+}
@@ -0,0 +1,219 @@
+import java.util.stream.IntStream;
+
+/**
+ * <p>Stores every attribute of the tiles as a bitset of {@code long}s: one layer each for mines, uncovered,
+ * flagged and detonated tiles and four bit planes for the number of mines around a tile.</p>
+ * <p>Every row {@code x} starts at a new word, so a word holds 64 neighbouring tiles of one row. Counting the
+ * mines around the tiles adds the eight shifted neighbour words of each word bit-sliced, which handles 64 tiles
+ * with a few dozen word operations, and the number of mines, uncovered or covered safe tiles is a population
+ * count of the layers.</p>
+ * <p>Writing a cell changes whole words, so different cells must not be written by different threads.</p>
+ */
+public class BitsetBoard implements Board {
+    private static final int MINES_AROUND_PLANES = 4;
+    private static final int STRIPES_PER_THREAD = 4;
+    private final int xSize;
+    private final int ySize;
+    private final int rowWords;
+    private final long lastWordMask;
+    private final long[] mines;
+    private final long[] uncovered;
+    private final long[] flagged;
+    private final long[] detonated;
+    private final long[][] minesAround = new long[MINES_AROUND_PLANES][];
+
+    public BitsetBoard(int xSize, int ySize) {
+        if (xSize <= 0) throw new IllegalArgumentException("xSize must be positive, got " + xSize);
+        if (ySize <= 0) throw new IllegalArgumentException("ySize must be positive, got " + ySize);
+        this.xSize = xSize;
+        this.ySize = ySize;
+        rowWords = (ySize + 63) >>> 6;
+        lastWordMask = -1L >>> (rowWords * 64 - ySize);
+        int words = Math.multiplyExact(xSize, rowWords);
+        mines = new long[words];
+        uncovered = new long[words];
+        flagged = new long[words];
+        detonated = new long[words];
+        for (int i = 0; i < MINES_AROUND_PLANES; i++) {
+            minesAround[i] = new long[words];
+        }
+    }
+
+    @Override
+    public int getXSize() {
+        return xSize;
+    }
+
+    @Override
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public int getCell(int index) {
+        int x = index / ySize;
+        int y = index - x * ySize;
+        int word = x * rowWords + (y >>> 6);
+        int cell = 0;
+        for (int i = 0; i < MINES_AROUND_PLANES; i++) {
+            cell |= (int) (minesAround[i][word] >>> y & 1) << i;
+        }
+        if ((mines[word] >>> y & 1) != 0) cell |= CellState.MINE;
+        if ((uncovered[word] >>> y & 1) != 0) cell |= CellState.UNCOVERED;
+        if ((flagged[word] >>> y & 1) != 0) cell |= CellState.FLAGGED;
+        if ((detonated[word] >>> y & 1) != 0) cell |= CellState.DETONATED;
+        return cell;
+    }
+
+    @Override
+    public void setCell(int index, int cell) {
+        int x = index / ySize;
+        int y = index - x * ySize;
+        int word = x * rowWords + (y >>> 6);
+        long bit = 1L << y;
+        for (int i = 0; i < MINES_AROUND_PLANES; i++) {
+            setBit(minesAround[i], word, bit, (cell >>> i & 1) != 0);
+        }
+        setBit(mines, word, bit, CellState.isMine(cell));
+        setBit(uncovered, word, bit, CellState.isUncovered(cell));
+        setBit(flagged, word, bit, CellState.isFlagged(cell));
+        setBit(detonated, word, bit, CellState.isDetonated(cell));
+    }
+
+    @Override
+    public void placeMines(int[] minePositions) {
+        for (int index : minePositions) {
+            int x = index / ySize;
+            int y = index - x * ySize;
+            mines[x * rowWords + (y >>> 6)] |= 1L << y;
+        }
+    }
+
+    /**
+     * <p>Counts in row stripes on the common {@link java.util.concurrent.ForkJoinPool} if {@code parallel}. Rows
+     * do not share words, so the stripes never write the same word.</p>
+     */
+    @Override
+    public void countMinesAround(boolean parallel) {
+        int stripes = parallel ? Math.min(xSize, Runtime.getRuntime().availableProcessors() * STRIPES_PER_THREAD) : 1;
+        if (stripes <= 1) {
+            countMinesAround(0, xSize);
+            return;
+        }
+        IntStream.range(0, stripes).parallel()
+                .forEach(stripe -> countMinesAround((int) ((long) xSize * stripe / stripes),
+                        (int) ((long) xSize * (stripe + 1) / stripes)));
+    }
+
+    /*
+    counting
+     */
+    public int getMines() {
+        return countBits(mines);
+    }
+
+    /**
+     * @return the number of uncovered tiles including detonated mines
+     */
+    public int getUncoveredTiles() {
+        return countBits(uncovered);
+    }
+
+    public int getFlaggedTiles() {
+        return countBits(flagged);
+    }
+
+    public int getDetonatedMines() {
+        return countBits(detonated);
+    }
+
+    /**
+     * @return the number of tiles that are neither uncovered nor mines, so the game is won once it is zero
+     */
+    public int getCoveredSafeTiles() {
+        int coveredSafeTiles = 0;
+        for (int row = 0; row < mines.length; row += rowWords) {
+            for (int w = 0; w < rowWords; w++) {
+                long valid = w == rowWords - 1 ? lastWordMask : -1L;
+                coveredSafeTiles += Long.bitCount(~(mines[row + w] | uncovered[row + w]) & valid);
+            }
+        }
+        return coveredSafeTiles;
+    }
+
+    private void countMinesAround(int fromX, int toX) {
+        for (int x = fromX; x < toX; x++) {
+            int row = x * rowWords;
+            int above = x > 0 ? row - rowWords : -1;
+            int below = x < xSize - 1 ? row + rowWords : -1;
+            for (int w = 0; w < rowWords; w++) {
+                long n0 = getWord(above, w);
+                long n1 = getShiftedUp(above, w);
+                long n2 = getShiftedDown(above, w);
+                long n3 = getShiftedUp(row, w);
+                long n4 = getShiftedDown(row, w);
+                long n5 = getWord(below, w);
+                long n6 = getShiftedUp(below, w);
+                long n7 = getShiftedDown(below, w);
+                // add the eight neighbour bits of 64 tiles at once with a network of full and half adders
+                long sum0 = n0 ^ n1 ^ n2;
+                long carry0 = (n0 & n1) | (n2 & (n0 ^ n1));
+                long sum1 = n3 ^ n4 ^ n5;
+                long carry1 = (n3 & n4) | (n5 & (n3 ^ n4));
+                long sum2 = n6 ^ n7;
+                long carry2 = n6 & n7;
+                long ones = sum0 ^ sum1 ^ sum2;
+                long carry3 = (sum0 & sum1) | (sum2 & (sum0 ^ sum1));
+                long twosSum = carry0 ^ carry1 ^ carry2;
+                long foursCarry = (carry0 & carry1) | (carry2 & (carry0 ^ carry1));
+                long twos = twosSum ^ carry3;
+                long foursSum = twosSum & carry3;
+                long fours = foursCarry ^ foursSum;
+                long eights = foursCarry & foursSum;
+                long valid = w == rowWords - 1 ? lastWordMask : -1L;
+                minesAround[0][row + w] = ones & valid;
+                minesAround[1][row + w] = twos & valid;
+                minesAround[2][row + w] = fours & valid;
+                minesAround[3][row + w] = eights & valid;
+            }
+        }
+    }
+
+    private long getWord(int row, int w) {
+        return row < 0 ? 0 : mines[row + w];
+    }
+
+    /**
+     * @return the mines of the tiles at {@code y - 1} moved to the bits of the tiles at {@code y}
+     */
+    private long getShiftedUp(int row, int w) {
+        if (row < 0) return 0;
+        long bits = mines[row + w] << 1;
+        return w > 0 ? bits | mines[row + w - 1] >>> 63 : bits;
+    }
+
+    /**
+     * @return the mines of the tiles at {@code y + 1} moved to the bits of the tiles at {@code y}
+     */
+    private long getShiftedDown(int row, int w) {
+        if (row < 0) return 0;
+        long bits = mines[row + w] >>> 1;
+        return w < rowWords - 1 ? bits | mines[row + w + 1] << 63 : bits;
+    }
+
+    private static void setBit(long[] layer, int word, long bit, boolean set) {
+        if (set) {
+            layer[word] |= bit;
+        } else {
+            layer[word] &= ~bit;
+        }
+    }
+
+    private static int countBits(long[] layer) {
+        int bits = 0;
+        for (long word : layer) {
+            bits += Long.bitCount(word);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,85 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class BitsetBoardTest {
+    private static void assertSameCells(Board expected, Board actual) {
+        for (int i = 0; i < expected.getNumberOfTiles(); i++) {
+            assertEquals(expected.getCell(i), actual.getCell(i), "cell " + i);
+        }
+    }
+
+    private static void placeRandomMines(Board board, float minePercentage, long seed) {
+        int tiles = board.getNumberOfTiles();
+        board.placeMines(new FisherYatesMinePlacer().placeMines(board.getXSize(), board.getYSize(), 0, new int[] {0},
+                (int) (tiles * minePercentage), RandomSource.seeded(seed)));
+    }
+
+    @Test
+    public void countsTheSameMinesAroundAsAByteBoard() {
+        int[] ySizes = {1, 2, 63, 64, 65, 130};
+        for (int ySize : ySizes) {
+            for (boolean parallel : new boolean[] {false, true}) {
+                Board expected = new ByteBoard(17, ySize);
+                Board actual = new BitsetBoard(17, ySize);
+                placeRandomMines(expected, 0.4F, ySize);
+                placeRandomMines(actual, 0.4F, ySize);
+                expected.countMinesAround(parallel);
+                actual.countMinesAround(parallel);
+                assertSameCells(expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void countsEightMinesAroundASurroundedTile() {
+        Board board = new BitsetBoard(3, 70);
+        board.placeMines(new int[] {62, 63, 64, 132, 134, 202, 203, 204});
+        board.countMinesAround(false);
+        assertEquals(8, CellState.getMinesAround(board.getCell(133)));
+        assertFalse(CellState.isMine(board.getCell(133)));
+    }
+
+    @Test
+    public void storesEveryCellState() {
+        BitsetBoard board = new BitsetBoard(2, 128);
+        for (int cell = 0; cell < 256; cell++) {
+            board.setCell(cell, cell);
+        }
+        for (int cell = 0; cell < 256; cell++) {
+            assertEquals(cell, board.getCell(cell));
+        }
+    }
+
+    @Test
+    public void countsLayersWithPopulationCounts() {
+        BitsetBoard board = new BitsetBoard(5, 70);
+        board.placeMines(new int[] {0, 69, 70, 349});
+        board.countMinesAround(false);
+        assertEquals(4, board.getMines());
+        assertEquals(346, board.getCoveredSafeTiles());
+        board.setCell(1, board.getCell(1) | CellState.UNCOVERED);
+        board.setCell(0, board.getCell(0) | CellState.UNCOVERED | CellState.DETONATED);
+        board.setCell(2, board.getCell(2) | CellState.FLAGGED);
+        assertEquals(2, board.getUncoveredTiles());
+        assertEquals(1, board.getDetonatedMines());
+        assertEquals(1, board.getFlaggedTiles());
+        assertEquals(345, board.getCoveredSafeTiles());
+    }
+
+    @Test
+    public void playsLikeAByteBoard() {
+        MinefieldConfig config = new MinefieldConfig().setSeed(22L);
+        Minefield expected = new Minefield(30, 70, 0.15F, config);
+        Minefield actual = new Minefield(30, 70, 0.15F, config.copy().setBoardFactory(BitsetBoard::new));
+        for (Minefield field : new Minefield[] {expected, actual}) {
+            field.init(15, 35);
+            field.uncoverTiles(15, 35);
+            field.alterTileFlagged(0, 0);
+            field.uncoverTiles(29, 69);
+        }
+        assertSameCells(expected.getBoard(), actual.getBoard());
+        assertEquals(expected.getStatus(), actual.getStatus());
+    }
+}
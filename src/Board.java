@@ -0,0 +1,38 @@
+/**
+ * <p>Storage of the tiles of a {@link Minefield}.</p>
+ * <p>Tiles are addressed by their flat index {@code x * ySize + y} and stored in the layout of {@link CellState}.</p>
+ */
+public interface Board {
+    int getXSize();
+
+    int getYSize();
+
+    int getCell(int index);
+
+    void setCell(int index, int cell);
+
+    /**
+     * @return whether different cells may be read and written by different threads at the same time
+     */
+    default boolean isConcurrentCellAccessSafe() {
+        return false;
+    }
+
+    default int getNumberOfTiles() {
+        return getXSize() * getYSize();
+    }
+
+    default void placeMines(int[] minePositions) {
+        for (int index : minePositions) {
+            setCell(index, getCell(index) | CellState.MINE);
+        }
+    }
+
+    default void countMinesAround(boolean parallel) {
+        if (parallel) {
+            MinesAroundCounter.countParallel(this);
+        } else {
+            MinesAroundCounter.count(this);
+        }
+    }
+}
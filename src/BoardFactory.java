@@ -0,0 +1,3 @@
+public interface BoardFactory {
+    Board newBoard(int xSize, int ySize);
+}
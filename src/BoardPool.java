@@ -0,0 +1,302 @@
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Starts games of popular presets on boards that background threads built ahead of demand, so the first click
+ * costs a copy of the board instead of placing the mines and counting the mines around every tile.</p>
+ * <p>A pooled board has its mines drawn around the centre tile. On the first click it is copied with every tile
+ * moved by the offset from the centre to the click, wrapping around the edges. On a torus the shift maps the
+ * uniformly drawn layouts around the centre one to one onto those around the click, so the game is as random as
+ * one drawn directly. Next to an edge the wrapped part of the cleared block lies on the opposite edge and would
+ * never get a mine, so each of its tiles becomes a mine with the probability it has in a direct draw and as many
+ * other mines are removed at random. Only the tiles along the old and new edges and around changed mines are
+ * counted again.</p>
+ * <p>Pooled games use a {@link ByteBoard} whatever the config's board factory, and their mines do not depend on
+ * the config's seed, so they cannot be replayed from a {@link MinefieldJournal} and
+ * {@link Minefield#setJournal(MinefieldJournal)} rejects them. Other presets and games started while the pool is
+ * empty are initialized directly.</p>
+ */
+public class BoardPool implements AutoCloseable {
+    private static final int DEFAULT_POOL_SIZE = 16;
+    private final MinePlacer placer;
+    private final int poolSize;
+    private final ExecutorService refillExecutor;
+    private final Map<Preset, BlockingQueue<PooledBoard>> pools = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder unpooled = new LongAdder();
+
+    private static final class Preset {
+        final int xSize;
+        final int ySize;
+        final int mines;
+
+        Preset(int xSize, int ySize, int mines) {
+            this.xSize = xSize;
+            this.ySize = ySize;
+            this.mines = mines;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Preset)) return false;
+            Preset preset = (Preset) o;
+            return xSize == preset.xSize && ySize == preset.ySize && mines == preset.mines;
+        }
+
+        @Override
+        public int hashCode() {
+            return (xSize * 31 + ySize) * 31 + mines;
+        }
+    }
+
+    private static final class PooledBoard {
+        final ByteBoard board;
+        final int[] minePositions;
+
+        PooledBoard(ByteBoard board, int[] minePositions) {
+            this.board = board;
+            this.minePositions = minePositions;
+        }
+    }
+
+    public BoardPool() {
+        this(new FisherYatesMinePlacer(), DEFAULT_POOL_SIZE, 1);
+    }
+
+    /**
+     * @param placer draws the pooled layouts, it must draw them uniformly for the shifted layouts to be uniform
+     * @param poolSize the number of boards kept ready per preset
+     * @param refillThreads the number of daemon threads building boards
+     */
+    public BoardPool(MinePlacer placer, int poolSize, int refillThreads) {
+        if (poolSize <= 0) throw new IllegalArgumentException("poolSize must be positive, got " + poolSize);
+        if (refillThreads <= 0) {
+            throw new IllegalArgumentException("refillThreads must be positive, got " + refillThreads);
+        }
+        this.placer = placer;
+        this.poolSize = poolSize;
+        refillExecutor = Executors.newFixedThreadPool(refillThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-pool-refill");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * <p>Starts pooling boards of the given size and mine percentage, e.g. of the presets offered to players. The
+     * pool is filled in the background.</p>
+     */
+    public BoardPool addPreset(int xSize, int ySize, float minePercentage) {
+        if (xSize < 3 || ySize < 3) {
+            throw new IllegalArgumentException("presets need at least 3x3 tiles, got " + xSize + "x" + ySize);
+        }
+        int mines = getMines(xSize, ySize, minePercentage);
+        if (mines <= 0 || mines > xSize * ySize - 9) {
+            throw new IllegalArgumentException("mines must be positive and leave 9 safe tiles, got " + mines);
+        }
+        Preset preset = new Preset(xSize, ySize, mines);
+        if (pools.putIfAbsent(preset, new ArrayBlockingQueue<>(poolSize)) == null) {
+            for (int i = 0; i < poolSize; i++) {
+                refill(preset);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * <p>Starts a game with its first click at the given position, like {@link Minefield#init(int, int)} on a new
+     * field. The tile is not uncovered yet.</p>
+     */
+    public Minefield newGame(int xSize, int ySize, float minePercentage, int xPos, int yPos, MinefieldConfig config) {
+        // the shift to the click wraps around, so a position outside the field would start a game elsewhere
+        if (xPos < 0 || xPos >= xSize || yPos < 0 || yPos >= ySize) {
+            throw new IndexOutOfBoundsException("position (" + xPos + ", " + yPos + ") is outside the "
+                    + xSize + "x" + ySize + " field");
+        }
+        BlockingQueue<PooledBoard> pool = pools.get(new Preset(xSize, ySize, getMines(xSize, ySize, minePercentage)));
+        PooledBoard pooled = pool == null ? null : pool.poll();
+        if (pooled == null) {
+            (pool == null ? unpooled : misses).increment();
+            Minefield field = new Minefield(xSize, ySize, minePercentage, config);
+            field.init(xPos, yPos);
+            return field;
+        }
+        hits.increment();
+        refill(new Preset(xSize, ySize, pooled.minePositions.length));
+        return new Minefield(moveToClick(pooled, xPos * ySize + yPos, RandomSource.threadLocal()),
+                pooled.minePositions.length, minePercentage, config);
+    }
+
+    /*
+    metrics
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of games of pooled presets initialized directly, because their pool was empty
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of games initialized directly, because their size and mine percentage are not pooled
+     */
+    public long getUnpooled() {
+        return unpooled.sum();
+    }
+
+    /**
+     * @return the share of games of pooled presets started on a pooled board, {@code 1} before any was started
+     */
+    public double getHitRate() {
+        long hits = getHits();
+        long requests = hits + getMisses();
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+
+    public int getPooledBoards(int xSize, int ySize, float minePercentage) {
+        BlockingQueue<PooledBoard> pool = pools.get(new Preset(xSize, ySize, getMines(xSize, ySize, minePercentage)));
+        return pool == null ? 0 : pool.size();
+    }
+
+    @Override
+    public void close() {
+        refillExecutor.shutdownNow();
+    }
+
+    /*
+    building
+     */
+    private void refill(Preset preset) {
+        try {
+            refillExecutor.execute(() -> {
+                int centre = preset.xSize / 2 * preset.ySize + preset.ySize / 2;
+                int[] minePositions = placer.placeMines(preset.xSize, preset.ySize, centre,
+                        getNeighbourhood(preset.xSize, preset.ySize, centre), preset.mines, RandomSource.threadLocal());
+                ByteBoard board = new ByteBoard(preset.xSize, preset.ySize);
+                board.placeMines(minePositions);
+                board.countMinesAround(false);
+                pools.get(preset).offer(new PooledBoard(board, minePositions));
+            });
+        } catch (RejectedExecutionException e) {
+            // closed, the remaining games are initialized directly
+        }
+    }
+
+    private static ByteBoard moveToClick(PooledBoard pooled, int initPos, RandomSource random) {
+        int xSize = pooled.board.getXSize();
+        int ySize = pooled.board.getYSize();
+        int xShift = initPos / ySize - xSize / 2;
+        int yShift = initPos % ySize - ySize / 2;
+        ByteBoard board = pooled.board.shifted(xShift, yShift);
+        int[] wrapped = getWrappedNeighbourhood(xSize, ySize, initPos);
+        if (wrapped.length > 0) {
+            // selection sampling decides which wrapped tiles a direct draw would have made mines
+            int mines = pooled.minePositions.length;
+            int candidates = xSize * ySize - (9 - wrapped.length);
+            int added = 0;
+            for (int i = 0; i < wrapped.length; i++) {
+                if (random.nextInt(candidates - i) >= mines - added) continue;
+                board.setCell(wrapped[i], board.getCell(wrapped[i]) | CellState.MINE);
+                recountAround(board, wrapped[i]);
+                added++;
+            }
+            int[] removed = new int[added];
+            for (int i = 0; i < added; i++) {
+                int mine;
+                do {
+                    mine = random.nextInt(mines);
+                } while (contains(removed, i, mine));
+                removed[i] = mine;
+                int index = shift(pooled.minePositions[mine], xSize, ySize, xShift, yShift);
+                board.setCell(index, board.getCell(index) & ~CellState.MINE);
+                recountAround(board, index);
+            }
+        }
+        // tiles along the old edges were counted without their new neighbours, those along the new ones with them
+        for (int x : new int[] {0, xSize - 1, Math.floorMod(xShift, xSize), Math.floorMod(xShift - 1, xSize)}) {
+            for (int y = 0; y < ySize; y++) {
+                recount(board, x * ySize + y);
+            }
+        }
+        for (int y : new int[] {0, ySize - 1, Math.floorMod(yShift, ySize), Math.floorMod(yShift - 1, ySize)}) {
+            for (int x = 0; x < xSize; x++) {
+                recount(board, x * ySize + y);
+            }
+        }
+        return board;
+    }
+
+    private static int shift(int index, int xSize, int ySize, int xShift, int yShift) {
+        return Math.floorMod(index / ySize + xShift, xSize) * ySize + Math.floorMod(index % ySize + yShift, ySize);
+    }
+
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) return true;
+        }
+        return false;
+    }
+
+    private static void recountAround(Board board, int index) {
+        for (int around : getNeighbourhood(board.getXSize(), board.getYSize(), index)) {
+            recount(board, around);
+        }
+    }
+
+    private static void recount(Board board, int index) {
+        int xSize = board.getXSize();
+        int ySize = board.getYSize();
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        int nMines = 0;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                if ((x != xPos || y != yPos) && CellState.isMine(board.getCell(x * ySize + y))) nMines++;
+            }
+        }
+        board.setCell(index, CellState.withMinesAround(board.getCell(index), nMines));
+    }
+
+    private static int getMines(int xSize, int ySize, float minePercentage) {
+        return (int) (xSize * ySize * minePercentage);
+    }
+
+    private static int[] getNeighbourhood(int xSize, int ySize, int index) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        IntList neighbourhood = new IntList();
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                neighbourhood.add(x * ySize + y);
+            }
+        }
+        return neighbourhood.toArray();
+    }
+
+    /**
+     * @return the tiles the cleared block around {@code index} wraps onto beyond the edges
+     */
+    private static int[] getWrappedNeighbourhood(int xSize, int ySize, int index) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        IntList wrapped = new IntList();
+        for (int x = xPos - 1; x <= xPos + 1; x++) {
+            for (int y = yPos - 1; y <= yPos + 1; y++) {
+                if (x >= 0 && x < xSize && y >= 0 && y < ySize) continue;
+                wrapped.add(Math.floorMod(x, xSize) * ySize + Math.floorMod(y, ySize));
+            }
+        }
+        return wrapped.toArray();
+    }
+}
@@ -0,0 +1,124 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class BoardPoolTest {
+    private static void awaitPooledBoard(BoardPool pool, int xSize, int ySize, float minePercentage) {
+        while (pool.getPooledBoards(xSize, ySize, minePercentage) == 0) {
+            Thread.yield();
+        }
+    }
+
+    private static void assertStartedAt(Minefield field, int xPos, int yPos, int mines) {
+        Board board = field.getBoard();
+        Board recounted = new ByteBoard(board.getXSize(), board.getYSize());
+        int minesOnBoard = 0;
+        for (int i = 0; i < board.getNumberOfTiles(); i++) {
+            if (CellState.isMine(board.getCell(i))) {
+                recounted.setCell(i, CellState.MINE);
+                minesOnBoard++;
+            }
+        }
+        recounted.countMinesAround(false);
+        for (int i = 0; i < board.getNumberOfTiles(); i++) {
+            assertEquals(recounted.getCell(i), board.getCell(i), "tile " + i);
+        }
+        assertEquals(mines, minesOnBoard);
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, board.getXSize() - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, board.getYSize() - 1); y++) {
+                assertFalse(CellState.isMine(board.getCell(x * board.getYSize() + y)));
+            }
+        }
+        assertEquals(GameStatus.RUNNING, field.getStatus());
+    }
+
+    @Test
+    public void pooledBoardsAreMovedToTheFirstClick() {
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), 4, 1)) {
+            pool.addPreset(16, 30, 0.2F);
+            for (int x = 0; x < 16; x += 5) {
+                for (int y = 0; y < 30; y += 7) {
+                    awaitPooledBoard(pool, 16, 30, 0.2F);
+                    Minefield field = pool.newGame(16, 30, 0.2F, x, y, new MinefieldConfig());
+                    assertStartedAt(field, x, y, 96);
+                }
+            }
+            assertEquals(20, pool.getHits());
+            assertEquals(1, pool.getHitRate());
+        }
+    }
+
+    @Test
+    public void otherPresetsAreInitializedDirectly() {
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), 4, 1)) {
+            pool.addPreset(9, 9, 0.1F);
+            assertStartedAt(pool.newGame(10, 10, 0.1F, 0, 9, new MinefieldConfig()), 0, 9, 10);
+            assertEquals(1, pool.getUnpooled());
+            assertEquals(0, pool.getHits() + pool.getMisses());
+        }
+    }
+
+    @Test
+    public void cornerClicksGetUniformlyDistributedMines() {
+        int games = 4000;
+        int[] counts = new int[25];
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), 16, 1)) {
+            pool.addPreset(5, 5, 0.24F);
+            for (int i = 0; i < games; i++) {
+                awaitPooledBoard(pool, 5, 5, 0.24F);
+                Minefield field = pool.newGame(5, 5, 0.24F, 0, 0, new MinefieldConfig());
+                assertStartedAt(field, 0, 0, 6);
+                for (int tile = 0; tile < 25; tile++) {
+                    if (CellState.isMine(field.getBoard().getCell(tile))) counts[tile]++;
+                }
+            }
+            assertEquals(games, pool.getHits());
+        }
+        double expected = games * 6.0 / 21;
+        for (int tile = 0; tile < 25; tile++) {
+            if (tile == 0 || tile == 1 || tile == 5 || tile == 6) continue;
+            assertTrue(Math.abs(counts[tile] - expected) < expected * 0.1, "tile " + tile + ": " + counts[tile]);
+        }
+    }
+
+    @Test
+    public void rejectsPresetsWithoutRoomForTheClearedBlock() {
+        try (BoardPool pool = new BoardPool()) {
+            assertThrows(IllegalArgumentException.class, () -> pool.addPreset(3, 3, 0.2F));
+            assertThrows(IllegalArgumentException.class, () -> pool.addPreset(2, 9, 0.2F));
+        }
+    }
+
+    @Test
+    public void rejectsClicksOutsideTheField() {
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), 4, 1)) {
+            pool.addPreset(16, 30, 0.2F);
+            awaitPooledBoard(pool, 16, 30, 0.2F);
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> pool.newGame(16, 30, 0.2F, 16, 0, new MinefieldConfig()));
+            assertThrows(IndexOutOfBoundsException.class,
+                    () -> pool.newGame(16, 30, 0.2F, 0, -1, new MinefieldConfig()));
+            assertEquals(0, pool.getHits());
+        }
+    }
+
+    @Test
+    public void pooledGamesCannotBeJournaled() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try (BoardPool pool = new BoardPool(new FisherYatesMinePlacer(), 4, 1);
+             MinefieldJournal journal = MinefieldJournal.create(file, 16, 30, 0.2F, 1)) {
+            pool.addPreset(16, 30, 0.2F);
+            awaitPooledBoard(pool, 16, 30, 0.2F);
+            Minefield field = pool.newGame(16, 30, 0.2F, 3, 4, new MinefieldConfig());
+            assertThrows(IllegalStateException.class, () -> field.setJournal(journal));
+            assertNull(field.getJournal());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/**
+ * <p>Stores every tile in one byte of a flat array.</p>
+ */
+public class ByteBoard implements Board {
+    private final int xSize;
+    private final int ySize;
+    private final byte[] cells;
+
+    public ByteBoard(int xSize, int ySize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        cells = new byte[Math.multiplyExact(xSize, ySize)];
+    }
+
+    @Override
+    public int getXSize() {
+        return xSize;
+    }
+
+    @Override
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public int getCell(int index) {
+        return cells[index] & 0xFF;
+    }
+
+    @Override
+    public void setCell(int index, int cell) {
+        cells[index] = (byte) cell;
+    }
+
+    @Override
+    public boolean isConcurrentCellAccessSafe() {
+        return true;
+    }
+
+    /**
+     * <p>Copies the board with every tile moved by the given offset, wrapping around the edges. A row is moved
+     * with two array copies.</p>
+     */
+    ByteBoard shifted(int xShift, int yShift) {
+        ByteBoard shifted = new ByteBoard(xSize, ySize);
+        int yOffset = Math.floorMod(yShift, ySize);
+        for (int x = 0; x < xSize; x++) {
+            int from = x * ySize;
+            int to = Math.floorMod(x + xShift, xSize) * ySize;
+            System.arraycopy(cells, from, shifted.cells, to + yOffset, ySize - yOffset);
+            System.arraycopy(cells, from + ySize - yOffset, shifted.cells, to, yOffset);
+        }
+        return shifted;
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * <p>Bit layout of a tile packed into one byte.</p>
+ * <p>The lower four bits hold the number of mines around the tile, the upper four bits its flags.</p>
+ */
+public final class CellState {
+    public static final int MINES_AROUND = 0x0F;
+    public static final int MINE = 0x10;
+    public static final int UNCOVERED = 0x20;
+    public static final int FLAGGED = 0x40;
+    public static final int DETONATED = 0x80;
+
+    private CellState() {
+    }
+
+    public static boolean isMine(int cell) {
+        return (cell & MINE) != 0;
+    }
+
+    public static boolean isUncovered(int cell) {
+        return (cell & UNCOVERED) != 0;
+    }
+
+    public static boolean isFlagged(int cell) {
+        return (cell & FLAGGED) != 0;
+    }
+
+    public static boolean isDetonated(int cell) {
+        return (cell & DETONATED) != 0;
+    }
+
+    public static int getMinesAround(int cell) {
+        return cell & MINES_AROUND;
+    }
+
+    public static int withMinesAround(int cell, int nMines) {
+        return (cell & ~MINES_AROUND) | nMines;
+    }
+}
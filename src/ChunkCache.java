@@ -0,0 +1,139 @@
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Least recently used cache of chunks of tiles.</p>
+ * <p>Missing chunks are loaded from the {@link ChunkStore} or, if they have never been stored, generated.
+ * Changed chunks are written to the store when they are evicted, unchanged ones are simply dropped.</p>
+ */
+public class ChunkCache {
+    private final int capacity;
+    private final ChunkStore store;
+    private final ChunkGenerator generator;
+    private final LinkedHashMap<Long, Chunk> chunks;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+
+    public interface ChunkGenerator {
+        byte[] generate(long key);
+    }
+
+    public interface ChunkUpdater {
+        void update(long key, byte[] cells);
+    }
+
+    public static class Chunk {
+        private final byte[] cells;
+        private boolean changed;
+
+        private Chunk(byte[] cells) {
+            this.cells = cells;
+        }
+
+        public int getCell(int index) {
+            return cells[index] & 0xFF;
+        }
+
+        public void setCell(int index, int cell) {
+            cells[index] = (byte) cell;
+            changed = true;
+        }
+    }
+
+    public ChunkCache(int capacity, ChunkStore store, ChunkGenerator generator) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        this.capacity = capacity;
+        this.store = store;
+        this.generator = generator;
+        chunks = new LinkedHashMap<>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Chunk> eldest) {
+                if (size() <= ChunkCache.this.capacity) return false;
+                evict(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public Chunk get(long key) {
+        Chunk chunk = chunks.get(key);
+        if (chunk == null) {
+            misses++;
+            chunk = load(key);
+            chunks.put(key, chunk);
+        } else {
+            hits++;
+        }
+        return chunk;
+    }
+
+    /**
+     * <p>Hands the tiles of every cached and every stored chunk to {@code updater} and keeps the changes.</p>
+     */
+    public void updateAll(ChunkUpdater updater) {
+        Set<Long> cachedKeys = new HashSet<>(chunks.keySet());
+        for (long key : store.getKeys()) {
+            if (cachedKeys.contains(key)) continue;
+            byte[] cells = store.load(key);
+            updater.update(key, cells);
+            store.store(key, cells);
+        }
+        for (long key : cachedKeys) {
+            Chunk chunk = chunks.get(key);
+            updater.update(key, chunk.cells);
+            chunk.changed = true;
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return chunks.size();
+    }
+
+    /**
+     * @return the number of chunks found in the cache, including those reused by {@link #recordHit()}
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * @return the share of requested chunks found in the cache, {@code 1} before any was requested
+     */
+    public double getHitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1 : (double) hits / requests;
+    }
+
+    /**
+     * <p>Counts a hit on the chunk a caller kept from its last {@link #get(long)}, so boards that skip the lookup
+     * for the chunk they used last are counted like any other hit.</p>
+     */
+    void recordHit() {
+        hits++;
+    }
+
+    private Chunk load(long key) {
+        byte[] cells = store.load(key);
+        return new Chunk(cells == null ? generator.generate(key) : cells);
+    }
+
+    private void evict(long key, Chunk chunk) {
+        evictions++;
+        if (chunk.changed) store.store(key, chunk.cells);
+    }
+}
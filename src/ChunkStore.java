@@ -0,0 +1,13 @@
+/**
+ * <p>Keeps the tiles of chunks that have been changed and evicted from a {@link ChunkCache}.</p>
+ */
+public interface ChunkStore {
+    /**
+     * @return the stored tiles or {@code null}, if the chunk has never been stored
+     */
+    byte[] load(long key);
+
+    void store(long key, byte[] cells);
+
+    long[] getKeys();
+}
@@ -0,0 +1,77 @@
+import java.util.Arrays;
+
+/**
+ * <p>Splits the flat tile array into chunks of {@code 2^chunkBits} tiles, of which only the chunks in a
+ * {@link ChunkCache} are kept in memory.</p>
+ * <p>With a {@link FileChunkStore} the board can be larger than the heap. Tiles are read and written through the
+ * cache, so the board must not be shared between threads, e.g. by a {@link ParallelRevealEngine}.</p>
+ */
+public class ChunkedBoard implements Board {
+    public static final int DEFAULT_CHUNK_BITS = 16;
+    private final int xSize;
+    private final int ySize;
+    private final int chunkBits;
+    private final int chunkMask;
+    private final ChunkCache chunks;
+    private long lastKey;
+    private ChunkCache.Chunk lastChunk;
+
+    public ChunkedBoard(int xSize, int ySize, int cachedChunks, ChunkStore store) {
+        this(xSize, ySize, DEFAULT_CHUNK_BITS, cachedChunks, store);
+    }
+
+    public ChunkedBoard(int xSize, int ySize, int chunkBits, int cachedChunks, ChunkStore store) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.chunkBits = chunkBits;
+        chunkMask = (1 << chunkBits) - 1;
+        chunks = new ChunkCache(cachedChunks, store, key -> new byte[1 << chunkBits]);
+    }
+
+    @Override
+    public int getXSize() {
+        return xSize;
+    }
+
+    @Override
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public int getCell(int index) {
+        return getChunk(index).getCell(index & chunkMask);
+    }
+
+    @Override
+    public void setCell(int index, int cell) {
+        getChunk(index).setCell(index & chunkMask, cell);
+    }
+
+    @Override
+    public void placeMines(int[] minePositions) {
+        int[] sortedPositions = minePositions.clone();
+        Arrays.sort(sortedPositions);
+        Board.super.placeMines(sortedPositions);
+    }
+
+    @Override
+    public void countMinesAround(boolean parallel) {
+        MinesAroundCounter.count(this);
+    }
+
+    public ChunkCache getChunkCache() {
+        return chunks;
+    }
+
+    private ChunkCache.Chunk getChunk(int index) {
+        long key = index >>> chunkBits;
+        if (lastChunk == null || key != lastKey) {
+            lastChunk = chunks.get(key);
+            lastKey = key;
+        } else {
+            chunks.recordHit();
+        }
+        return lastChunk;
+    }
+}
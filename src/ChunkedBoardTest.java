@@ -0,0 +1,77 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class ChunkedBoardTest {
+    private static final int SIZE = 100;
+    private static final int[] MINE_POSITIONS = new FisherYatesMinePlacer().placeMines(SIZE, SIZE, 0,
+            new int[] {0, 1, SIZE, SIZE + 1}, SIZE * SIZE / 10, RandomSource.threadLocal());
+
+    private static Minefield newField(BoardFactory boardFactory) {
+        return new Minefield(SIZE, SIZE, 0.1F, new MinefieldConfig()
+                .setMinePlacer((xSize, ySize, initPos, safeTiles, minesToCreate, random) -> MINE_POSITIONS)
+                .setBoardFactory(boardFactory));
+    }
+
+    private static void play(Minefield field) {
+        field.alterTileFlagged(50, 50);
+        field.init(0, 0);
+        field.uncoverTiles(0, 0);
+        for (int i = 0; i < SIZE; i += 3) {
+            field.alterTileFlagged(i, SIZE - 1 - i);
+            field.uncoverTiles(SIZE - 1 - i, i);
+        }
+    }
+
+    private static void assertSameTiles(Minefield expected, Minefield actual) {
+        Tile[][] expectedTiles = expected.getTilesArray();
+        Tile[][] actualTiles = actual.getTilesArray();
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                assertEquals(expectedTiles[x][y].isMine(), actualTiles[x][y].isMine());
+                assertEquals(expectedTiles[x][y].getMinesAround(), actualTiles[x][y].getMinesAround());
+                assertEquals(expectedTiles[x][y].isUncovered(), actualTiles[x][y].isUncovered());
+                assertEquals(expectedTiles[x][y].isFlagged(), actualTiles[x][y].isFlagged());
+                assertEquals(expectedTiles[x][y].isDetonated(), actualTiles[x][y].isDetonated());
+            }
+        }
+    }
+
+    @Test
+    public void chunkedMinefieldPlaysLikeDefaultMinefield() throws IOException {
+        try (FileChunkStore store = FileChunkStore.createTemporary(1 << 8)) {
+            ChunkedBoard[] board = new ChunkedBoard[1];
+            Minefield expected = newField(ByteBoard::new);
+            Minefield actual = newField((xSize, ySize) -> board[0] = new ChunkedBoard(xSize, ySize, 8, 3, store));
+            play(expected);
+            play(actual);
+            assertSameTiles(expected, actual);
+            assertTrue(board[0].getChunkCache().size() <= 3);
+        }
+    }
+
+    @Test
+    public void chunkCacheCountsHitsMissesAndEvictions() throws IOException {
+        try (FileChunkStore store = FileChunkStore.createTemporary(1 << 8)) {
+            ChunkedBoard board = new ChunkedBoard(SIZE, SIZE, 8, 2, store);
+            ChunkCache cache = board.getChunkCache();
+            board.setCell(0, CellState.FLAGGED);
+            board.setCell(256, CellState.FLAGGED);
+            board.setCell(512, CellState.FLAGGED);
+            assertEquals(3, cache.getMisses());
+            assertEquals(1, cache.getEvictions());
+            assertEquals(CellState.FLAGGED, board.getCell(0));
+            assertEquals(4, cache.getMisses());
+            assertEquals(CellState.FLAGGED, board.getCell(512));
+            assertEquals(1, cache.getHits());
+            assertEquals(0, board.getCell(513));
+            assertEquals(2, cache.getHits());
+            assertEquals(4, cache.getMisses());
+            assertTrue(Math.abs(cache.getHitRate() - 2.0 / 6) < 1e-9);
+            assertEquals(2, store.getKeys().length);
+        }
+    }
+}
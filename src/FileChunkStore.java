@@ -0,0 +1,90 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>Spills chunks into slots of a local file.</p>
+ * <p>All chunks have the same length. A chunk keeps its slot once it has been written, so storing it again
+ * overwrites it in place.</p>
+ */
+public class FileChunkStore implements ChunkStore, Closeable {
+    private final FileChannel channel;
+    private final int chunkLength;
+    private final Map<Long, Long> offsets = new HashMap<>();
+    private long fileLength = 0;
+
+    public FileChunkStore(Path file, int chunkLength) throws IOException {
+        this(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE), chunkLength);
+    }
+
+    private FileChunkStore(FileChannel channel, int chunkLength) {
+        this.channel = channel;
+        this.chunkLength = chunkLength;
+    }
+
+    /**
+     * <p>Creates a store in a temporary file, which is deleted when the store is closed.</p>
+     */
+    public static FileChunkStore createTemporary(int chunkLength) throws IOException {
+        Path file = Files.createTempFile("minefield-chunks", ".bin");
+        return new FileChunkStore(FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                StandardOpenOption.DELETE_ON_CLOSE), chunkLength);
+    }
+
+    @Override
+    public byte[] load(long key) {
+        Long offset = offsets.get(key);
+        if (offset == null) return null;
+        ByteBuffer buffer = ByteBuffer.allocate(chunkLength);
+        try {
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("chunk " + key + " is truncated");
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public void store(long key, byte[] cells) {
+        if (cells.length != chunkLength) {
+            throw new IllegalArgumentException("expected chunk of " + chunkLength + " bytes, got " + cells.length);
+        }
+        long offset = offsets.computeIfAbsent(key, k -> allocateSlot());
+        ByteBuffer buffer = ByteBuffer.wrap(cells);
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer, offset + buffer.position());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long[] getKeys() {
+        return offsets.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private long allocateSlot() {
+        long offset = fileLength;
+        fileLength += chunkLength;
+        return offset;
+    }
+}
@@ -0,0 +1,37 @@
+import java.util.Arrays;
+
+/**
+ * <p>Places mines with a partial Fisher-Yates shuffle over the flat index range of the field.</p>
+ * <p>Runs in linear time, but needs one {@code int} per tile while placing.</p>
+ */
+public class FisherYatesMinePlacer implements MinePlacer {
+    @Override
+    public int[] placeMines(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate,
+                             RandomSource random) {
+        int[] candidates = getCandidates(xSize * ySize, safeTiles);
+        if (minesToCreate > candidates.length) {
+            throw new IllegalArgumentException("cannot place " + minesToCreate + " mines on " + candidates.length + " tiles");
+        }
+        for (int i = 0; i < minesToCreate; i++) {
+            int j = i + random.nextInt(candidates.length - i);
+            int candidate = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = candidate;
+        }
+        return Arrays.copyOf(candidates, minesToCreate);
+    }
+
+    private int[] getCandidates(int numberOfTiles, int[] safeTiles) {
+        int[] candidates = new int[numberOfTiles - safeTiles.length];
+        int nextSafe = 0;
+        int index = 0;
+        for (int pos = 0; pos < numberOfTiles; pos++) {
+            if (nextSafe < safeTiles.length && safeTiles[nextSafe] == pos) {
+                nextSafe++;
+                continue;
+            }
+            candidates[index++] = pos;
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * <p>Places mines with Robert Floyd's sampling algorithm.</p>
+ * <p>Time and memory grow with the number of mines instead of the number of tiles, which suits huge, sparse
+ * fields, e.g. together with a {@link LazyBoard}.</p>
+ */
+public class FloydMinePlacer implements MinePlacer {
+    @Override
+    public int[] placeMines(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate,
+                             RandomSource random) {
+        int candidates = xSize * ySize - safeTiles.length;
+        if (minesToCreate > candidates) {
+            throw new IllegalArgumentException("cannot place " + minesToCreate + " mines on " + candidates + " tiles");
+        }
+        IntHashSet chosen = new IntHashSet(minesToCreate);
+        for (int j = candidates - minesToCreate; j < candidates; j++) {
+            int candidate = random.nextInt(j + 1);
+            if (!chosen.add(candidate)) chosen.add(j);
+        }
+        int[] minePositions = chosen.toArray();
+        for (int i = 0; i < minePositions.length; i++) {
+            minePositions[i] = skipSafeTiles(minePositions[i], safeTiles);
+        }
+        return minePositions;
+    }
+
+    private int skipSafeTiles(int candidate, int[] safeTiles) {
+        int pos = candidate;
+        for (int safeTile : safeTiles) {
+            if (safeTile <= pos) pos++;
+        }
+        return pos;
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * <p>Runs one {@link Minefield} as a single-writer actor.</p>
+ * <p>Commands are queued in a bounded mailbox and executed one after another by a task on the executor, so the
+ * field is only ever touched by one thread at a time and needs no locks. The task is only scheduled while the
+ * mailbox holds commands, so an idle game costs no thread, only its field and an empty queue. After
+ * {@value #BATCH_SIZE} commands the task yields the thread to other games.</p>
+ * <p>A full mailbox rejects further commands with a {@link RejectedExecutionException}, which pushes back on
+ * players that send faster than the game can execute. If the executor rejects the task, e.g. because the
+ * {@link GameActorSystem} was closed, the queued commands complete exceptionally with its exception.</p>
+ */
+public class GameActor {
+    public enum Command {
+        INIT, UNCOVER, FLAG, CHORD
+    }
+
+    private static final int BATCH_SIZE = 64;
+    private final Minefield field;
+    private final Executor executor;
+    private final int capacity;
+    private final Map<Command, LatencyHistogram> latencies;
+    private final Queue<Message<?>> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedMessages = new AtomicInteger();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    private static final class Message<T> {
+        final Command command;
+        final Function<Minefield, T> action;
+        final long enqueuedNanos = System.nanoTime();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Message(Command command, Function<Minefield, T> action) {
+            this.command = command;
+            this.action = action;
+        }
+    }
+
+    /**
+     * @param latencies histograms the time from sending to completing a command is recorded in, by command
+     */
+    GameActor(Minefield field, Executor executor, int capacity, Map<Command, LatencyHistogram> latencies) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be positive, got " + capacity);
+        this.field = field;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.latencies = latencies;
+    }
+
+    /*
+    messages
+     */
+    /**
+     * @return the tiles changed by the command
+     */
+    public CompletableFuture<MinefieldDelta> send(Command command, int xPos, int yPos) {
+        return enqueue(command, field -> {
+            switch (command) {
+                case INIT:
+                    field.init(xPos, yPos);
+                    return MinefieldDelta.EMPTY;
+                case UNCOVER:
+                    return field.uncoverTiles(xPos, yPos);
+                case FLAG:
+                    return field.alterTileFlagged(xPos, yPos);
+                case CHORD:
+                    return field.chord(xPos, yPos);
+                default:
+                    throw new IllegalArgumentException("unknown command " + command);
+            }
+        });
+    }
+
+    /**
+     * <p>Reads the field in turn with the commands, e.g. to render it or to save a {@link MinefieldSnapshot}.</p>
+     */
+    public <T> CompletableFuture<T> query(Function<Minefield, T> query) {
+        return enqueue(null, query);
+    }
+
+    public int getQueuedMessages() {
+        return queuedMessages.get();
+    }
+
+    private <T> CompletableFuture<T> enqueue(Command command, Function<Minefield, T> action) {
+        if (queuedMessages.incrementAndGet() > capacity) {
+            queuedMessages.decrementAndGet();
+            throw new RejectedExecutionException("mailbox is full with " + capacity + " messages");
+        }
+        Message<T> message = new Message<>(command, action);
+        mailbox.add(message);
+        schedule();
+        return message.result;
+    }
+
+    /*
+    execution
+     */
+    private void schedule() {
+        if (!scheduled.compareAndSet(false, true)) return;
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            scheduled.set(false);
+            // a message added before the reset is failed here, one added after it schedules the task again
+            rejectQueuedMessages(e);
+        }
+    }
+
+    private void rejectQueuedMessages(RejectedExecutionException cause) {
+        for (Message<?> message = mailbox.poll(); message != null; message = mailbox.poll()) {
+            queuedMessages.decrementAndGet();
+            message.result.completeExceptionally(cause);
+        }
+    }
+
+    private void drain() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Message<?> message = mailbox.poll();
+            if (message == null) break;
+            queuedMessages.decrementAndGet();
+            execute(message);
+        }
+        scheduled.set(false);
+        // a message added after the last poll could not schedule the task while it was still running
+        if (!mailbox.isEmpty()) schedule();
+    }
+
+    private <T> void execute(Message<T> message) {
+        try {
+            T result = message.action.apply(field);
+            if (message.command != null) {
+                latencies.get(message.command).record(System.nanoTime() - message.enqueuedNanos);
+            }
+            message.result.complete(result);
+        } catch (RuntimeException e) {
+            message.result.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Hosts many games as {@link GameActor}s on one executor and keeps a latency histogram per command.</p>
+ * <p>By default the actors run on virtual threads, one per drain of a mailbox, when the runtime supports them,
+ * and otherwise on a work-stealing pool in FIFO mode with one thread per processor.</p>
+ */
+public class GameActorSystem implements AutoCloseable {
+    public static final int DEFAULT_MAILBOX_CAPACITY = 256;
+    private final ExecutorService executor;
+    private final int mailboxCapacity;
+    private final ConcurrentHashMap<Long, GameActor> games = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+    private final Map<GameActor.Command, LatencyHistogram> latencies = new EnumMap<>(GameActor.Command.class);
+
+    public GameActorSystem() {
+        this(newDefaultExecutor(), DEFAULT_MAILBOX_CAPACITY);
+    }
+
+    public GameActorSystem(ExecutorService executor, int mailboxCapacity) {
+        this.executor = executor;
+        this.mailboxCapacity = mailboxCapacity;
+        for (GameActor.Command command : GameActor.Command.values()) {
+            latencies.put(command, new LatencyHistogram());
+        }
+    }
+
+    /**
+     * <p>Looked up reflectively, so the code also runs on runtimes without virtual threads.</p>
+     */
+    static ExecutorService newDefaultExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+                    ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        }
+    }
+
+    /*
+    games
+     */
+    public long createGame(int xSize, int ySize, float minePercentage) {
+        return createGame(xSize, ySize, minePercentage, new MinefieldConfig());
+    }
+
+    public long createGame(int xSize, int ySize, float minePercentage, MinefieldConfig config) {
+        long id = nextId.incrementAndGet();
+        games.put(id, new GameActor(new Minefield(xSize, ySize, minePercentage, config), executor, mailboxCapacity,
+                latencies));
+        return id;
+    }
+
+    public GameActor getGame(long id) {
+        GameActor game = games.get(id);
+        if (game == null) throw new IllegalArgumentException("no game with id " + id);
+        return game;
+    }
+
+    /**
+     * <p>Removes the game. Commands already in its mailbox are still executed.</p>
+     */
+    public void closeGame(long id) {
+        if (games.remove(id) == null) throw new IllegalArgumentException("no game with id " + id);
+    }
+
+    public int getNumberOfGames() {
+        return games.size();
+    }
+
+    public CompletableFuture<MinefieldDelta> send(long id, GameActor.Command command, int xPos, int yPos) {
+        return getGame(id).send(command, xPos, yPos);
+    }
+
+    /*
+    getters
+     */
+    public LatencyHistogram getLatency(GameActor.Command command) {
+        return latencies.get(command);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
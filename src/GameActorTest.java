@@ -0,0 +1,96 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class GameActorTest {
+    private static Map<GameActor.Command, LatencyHistogram> newLatencies() {
+        Map<GameActor.Command, LatencyHistogram> latencies = new EnumMap<>(GameActor.Command.class);
+        for (GameActor.Command command : GameActor.Command.values()) {
+            latencies.put(command, new LatencyHistogram());
+        }
+        return latencies;
+    }
+
+    @Test
+    public void commandsAreExecutedInOrder() throws Exception {
+        try (GameActorSystem system = new GameActorSystem()) {
+            long id = system.createGame(20, 20, 0.1F);
+            system.send(id, GameActor.Command.FLAG, 3, 3);
+            system.send(id, GameActor.Command.INIT, 10, 10);
+            system.send(id, GameActor.Command.UNCOVER, 10, 10);
+            system.send(id, GameActor.Command.FLAG, 3, 3);
+            CompletableFuture<Integer> cell = system.getGame(id).query(field -> field.getBoard().getCell(10 * 20 + 10));
+            assertTrue(CellState.isUncovered(cell.get()));
+            assertFalse(system.getGame(id).query(field -> field.getTilesArray()[3][3].isFlagged()).get());
+            assertEquals(2, system.getLatency(GameActor.Command.FLAG).getCount());
+            assertEquals(1, system.getLatency(GameActor.Command.INIT).getCount());
+        }
+    }
+
+    @Test
+    public void fullMailboxRejectsCommandsUntilItIsDrained() {
+        List<Runnable> tasks = new ArrayList<>();
+        GameActor actor = new GameActor(new Minefield(5, 5, 0F), tasks::add, 2, newLatencies());
+        actor.send(GameActor.Command.FLAG, 0, 0);
+        actor.send(GameActor.Command.FLAG, 1, 1);
+        assertThrows(RejectedExecutionException.class, () -> actor.send(GameActor.Command.FLAG, 2, 2));
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        assertEquals(0, actor.getQueuedMessages());
+        assertTrue(actor.send(GameActor.Command.FLAG, 2, 2) != null);
+    }
+
+    @Test
+    public void commandsRejectedByTheExecutorCompleteExceptionally() {
+        GameActor actor = new GameActor(new Minefield(5, 5, 0F), runnable -> {
+            throw new RejectedExecutionException("executor is shut down");
+        }, 2, newLatencies());
+        for (int i = 0; i < 3; i++) {
+            CompletableFuture<MinefieldDelta> rejected = actor.send(GameActor.Command.FLAG, i, i);
+            assertTrue(rejected.isCompletedExceptionally());
+            assertEquals(0, actor.getQueuedMessages());
+        }
+    }
+
+    @Test
+    public void commandsSentAfterCloseCompleteExceptionally() {
+        GameActorSystem system = new GameActorSystem();
+        long id = system.createGame(5, 5, 0F);
+        GameActor actor = system.getGame(id);
+        system.close();
+        assertTrue(actor.send(GameActor.Command.FLAG, 0, 0).isCompletedExceptionally());
+    }
+
+    @Test
+    public void failingCommandCompletesExceptionallyAndKeepsTheActorRunning() throws Exception {
+        try (GameActorSystem system = new GameActorSystem()) {
+            long id = system.createGame(5, 5, 0F);
+            CompletableFuture<MinefieldDelta> failed = system.send(id, GameActor.Command.FLAG, 7, 7);
+            CompletableFuture<MinefieldDelta> next = system.send(id, GameActor.Command.FLAG, 1, 1);
+            next.get();
+            assertTrue(failed.isCompletedExceptionally());
+        }
+    }
+
+    @Test
+    public void histogramPercentilesAreWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 1; value <= 10000; value++) {
+            histogram.record(value);
+        }
+        assertEquals(10000, histogram.getCount());
+        assertEquals(5000.5, histogram.getMean(), 0.001);
+        assertEquals(10000, histogram.getMax());
+        assertEquals(5000, histogram.getPercentile(50), 5000 / 16.0);
+        assertEquals(9900, histogram.getPercentile(99), 9900 / 16.0);
+        assertEquals(10000, histogram.getPercentile(100));
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * <p>Thread-safe access to one {@link Minefield} shared by many players.</p>
+ * <p>The field is split into square regions of {@code 2^regionBits} tiles per side, and each region maps to one of
+ * a fixed number of striped locks. Flagging a tile or uncovering a tile that does not cascade only changes that
+ * tile, so it holds the shared side of the field lock and the lock of the tile's region. Players in different
+ * regions therefore never wait for each other. Initialization, chords and cascading uncovers can change tiles
+ * anywhere and hold the field lock exclusively.</p>
+ * <p>Striping needs a board whose cells can be written independently, see
+ * {@link Board#isConcurrentCellAccessSafe()}. On other boards every command holds the field lock exclusively.</p>
+ */
+public class GameSession {
+    public static final int DEFAULT_REGION_BITS = 4;
+    public static final int DEFAULT_STRIPES = 64;
+    private final Minefield field;
+    private final Board board;
+    private final int regionBits;
+    private final ReentrantReadWriteLock fieldLock = new ReentrantReadWriteLock();
+    private final Lock[] stripes;
+
+    public GameSession(Minefield field) {
+        this(field, DEFAULT_REGION_BITS, DEFAULT_STRIPES);
+    }
+
+    public GameSession(Minefield field, int regionBits, int stripes) {
+        if (stripes <= 0) throw new IllegalArgumentException("stripes must be positive, got " + stripes);
+        this.field = field;
+        board = field.getBoard();
+        this.regionBits = regionBits;
+        this.stripes = new Lock[board.isConcurrentCellAccessSafe() ? stripes : 0];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /*
+    commands
+     */
+    public void init(int xPos, int yPos) {
+        exclusively(field -> {
+            field.init(xPos, yPos);
+            return null;
+        });
+    }
+
+    public MinefieldDelta alterTileFlagged(int xPos, int yPos) {
+        if (stripes.length == 0) return exclusively(field -> field.alterTileFlagged(xPos, yPos));
+        Lock stripe = getStripe(xPos, yPos);
+        fieldLock.readLock().lock();
+        stripe.lock();
+        try {
+            return field.alterTileFlagged(xPos, yPos);
+        } finally {
+            stripe.unlock();
+            fieldLock.readLock().unlock();
+        }
+    }
+
+    public MinefieldDelta uncoverTiles(int xPos, int yPos) {
+        if (stripes.length > 0) {
+            MinefieldDelta delta = uncoverTileInRegion(xPos, yPos);
+            if (delta != null) return delta;
+        }
+        return exclusively(field -> field.uncoverTiles(xPos, yPos));
+    }
+
+    public MinefieldDelta chord(int xPos, int yPos) {
+        return exclusively(field -> field.chord(xPos, yPos));
+    }
+
+    /**
+     * <p>Batches hold the field lock exclusively, see {@link Minefield#applyBatch(byte, int[])}.</p>
+     */
+    public MinefieldDelta applyBatch(byte operation, int[] indices) {
+        return exclusively(field -> field.applyBatch(operation, indices));
+    }
+
+    /**
+     * <p>Runs {@code action} while no command is executed, e.g. to save a {@link MinefieldSnapshot}.</p>
+     */
+    public <T> T exclusively(Function<Minefield, T> action) {
+        fieldLock.writeLock().lock();
+        try {
+            return action.apply(field);
+        } finally {
+            fieldLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the delta, or {@code null} if the tile cascades and has to be uncovered exclusively
+     */
+    private MinefieldDelta uncoverTileInRegion(int xPos, int yPos) {
+        Lock stripe = getStripe(xPos, yPos);
+        fieldLock.readLock().lock();
+        stripe.lock();
+        try {
+            if (isCascading(board.getCell(getIndex(xPos, yPos)))) return null;
+            return field.uncoverTiles(xPos, yPos);
+        } finally {
+            stripe.unlock();
+            fieldLock.readLock().unlock();
+        }
+    }
+
+    private boolean isCascading(int cell) {
+        return !CellState.isFlagged(cell) && !CellState.isMine(cell) && CellState.getMinesAround(cell) == 0;
+    }
+
+    /*
+    getters
+     */
+    /**
+     * <p>Reads a tile without locking. The value is current, but may be outdated as soon as it is returned.</p>
+     */
+    public int getCell(int xPos, int yPos) {
+        return board.getCell(getIndex(xPos, yPos));
+    }
+
+    public GameStatus getStatus() {
+        return field.getStatus();
+    }
+
+    public int getXSize() {
+        return field.getXSize();
+    }
+
+    public int getYSize() {
+        return field.getYSize();
+    }
+
+    /*
+    misc
+     */
+    private Lock getStripe(int xPos, int yPos) {
+        int region = 31 * (xPos >> regionBits) + (yPos >> regionBits);
+        return stripes[Math.floorMod(IntHashSet.mix(region), stripes.length)];
+    }
+
+    private int getIndex(int xPos, int yPos) {
+        field.checkPosition(xPos, yPos);
+        return xPos * field.getYSize() + yPos;
+    }
+}
@@ -0,0 +1,81 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>Owns the running games and routes the commands of the players to them.</p>
+ * <p>Games are looked up in a {@link ConcurrentHashMap}, so commands to different games never share a lock.
+ * Commands to the same game are synchronized by its {@link GameSession}.</p>
+ */
+public class GameSessionManager {
+    private final ConcurrentHashMap<Long, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong();
+
+    /*
+    games
+     */
+    public long createGame(int xSize, int ySize, float minePercentage) {
+        return createGame(xSize, ySize, minePercentage, new MinefieldConfig());
+    }
+
+    public long createGame(int xSize, int ySize, float minePercentage, MinefieldConfig config) {
+        return addGame(new GameSession(new Minefield(xSize, ySize, minePercentage, config)));
+    }
+
+    public long addGame(GameSession session) {
+        long id = nextId.incrementAndGet();
+        sessions.put(id, session);
+        return id;
+    }
+
+    public GameSession getGame(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) throw new IllegalArgumentException("no game with id " + id);
+        return session;
+    }
+
+    /**
+     * <p>Removes the game and closes its journal, if it has one.</p>
+     */
+    public void closeGame(long id) {
+        GameSession session = sessions.remove(id);
+        if (session == null) throw new IllegalArgumentException("no game with id " + id);
+        session.exclusively(field -> {
+            if (field.getJournal() == null) return null;
+            try {
+                field.getJournal().close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    public int getNumberOfGames() {
+        return sessions.size();
+    }
+
+    /*
+    commands
+     */
+    public void init(long id, int xPos, int yPos) {
+        getGame(id).init(xPos, yPos);
+    }
+
+    public MinefieldDelta uncoverTiles(long id, int xPos, int yPos) {
+        return getGame(id).uncoverTiles(xPos, yPos);
+    }
+
+    public MinefieldDelta alterTileFlagged(long id, int xPos, int yPos) {
+        return getGame(id).alterTileFlagged(xPos, yPos);
+    }
+
+    public MinefieldDelta chord(long id, int xPos, int yPos) {
+        return getGame(id).chord(xPos, yPos);
+    }
+
+    public MinefieldDelta applyBatch(long id, byte operation, int[] indices) {
+        return getGame(id).applyBatch(operation, indices);
+    }
+}
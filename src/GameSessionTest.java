@@ -0,0 +1,111 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class GameSessionTest {
+    private static final int SIZE = 64;
+    private static final int THREADS = 8;
+
+    private static Minefield newField(MinefieldConfig config) {
+        Minefield field = new Minefield(SIZE, SIZE, 0.15F, config.setSeed(99L));
+        field.init(SIZE / 2, SIZE / 2);
+        return field;
+    }
+
+    private static void runConcurrently(GameSession session, boolean flag) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                int first = thread;
+                futures.add(executor.submit(() -> {
+                    for (int index = first; index < SIZE * SIZE; index += THREADS) {
+                        if (flag) {
+                            session.alterTileFlagged(index / SIZE, index % SIZE);
+                        } else {
+                            session.uncoverTiles(index / SIZE, index % SIZE);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void concurrentFlagsOnOneBoardAreAllApplied() throws Exception {
+        GameSession session = new GameSession(newField(new MinefieldConfig()));
+        runConcurrently(session, true);
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                int cell = session.getCell(x, y);
+                assertEquals(!CellState.isUncovered(cell), CellState.isFlagged(cell));
+            }
+        }
+    }
+
+    @Test
+    public void concurrentUncoversGiveSameBoardAsSequentialUncovers() throws Exception {
+        Minefield expected = newField(new MinefieldConfig());
+        for (int index = 0; index < SIZE * SIZE; index++) {
+            expected.uncoverTiles(index / SIZE, index % SIZE);
+        }
+        GameSession session = new GameSession(newField(new MinefieldConfig()), 2, 16);
+        runConcurrently(session, false);
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                assertEquals(expected.getBoard().getCell(x * SIZE + y), session.getCell(x, y));
+            }
+        }
+        assertEquals(expected.getFrontierSize(), (int) session.exclusively(Minefield::getFrontierSize));
+    }
+
+    @Test
+    public void boardsWithoutConcurrentCellAccessAreLockedExclusively() throws Exception {
+        GameSession session = new GameSession(newField(new MinefieldConfig().setBoardFactory(LazyBoard::new)));
+        runConcurrently(session, true);
+        for (int x = 0; x < SIZE; x++) {
+            for (int y = 0; y < SIZE; y++) {
+                assertTrue(CellState.isFlagged(session.getCell(x, y)));
+            }
+        }
+    }
+
+    @Test
+    public void managerRoutesCommandsToTheirGame() {
+        GameSessionManager manager = new GameSessionManager();
+        long first = manager.createGame(10, 10, 0.1F);
+        long second = manager.createGame(10, 10, 0.1F);
+        manager.init(first, 5, 5);
+        manager.uncoverTiles(first, 5, 5);
+        manager.alterTileFlagged(second, 0, 0);
+        assertTrue(CellState.isUncovered(manager.getGame(first).getCell(5, 5)));
+        assertFalse(CellState.isFlagged(manager.getGame(first).getCell(0, 0)));
+        assertTrue(CellState.isFlagged(manager.getGame(second).getCell(0, 0)));
+        assertEquals(2, manager.getNumberOfGames());
+        manager.closeGame(first);
+        assertEquals(1, manager.getNumberOfGames());
+        assertThrows(IllegalArgumentException.class, () -> manager.uncoverTiles(first, 0, 0));
+    }
+
+    @Test
+    public void rejectsPositionsOutsideTheField() {
+        GameSession session = new GameSession(newField(new MinefieldConfig()));
+        assertThrows(IndexOutOfBoundsException.class, () -> session.getCell(0, SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> session.getCell(-1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> session.uncoverTiles(0, SIZE));
+        assertThrows(IndexOutOfBoundsException.class, () -> session.alterTileFlagged(SIZE, 0));
+        assertFalse(CellState.isUncovered(session.getCell(1, 0)));
+    }
+}
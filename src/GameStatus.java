@@ -0,0 +1,18 @@
+/**
+ * <p>State of the game on a {@link Minefield}.</p>
+ */
+public enum GameStatus {
+    /**
+     * <p>The mines have not been placed yet.</p>
+     */
+    NOT_STARTED,
+    RUNNING,
+    /**
+     * <p>Every tile without a mine is uncovered.</p>
+     */
+    WON,
+    /**
+     * <p>A mine has been uncovered.</p>
+     */
+    LOST
+}
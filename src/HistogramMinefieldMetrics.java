@@ -0,0 +1,80 @@
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>Collects the measurements of any number of fields in counters and {@link LatencyHistogram}s.</p>
+ * <p>Counters are {@link LongAdder}s, so fields played by different threads do not contend on them.</p>
+ */
+public class HistogramMinefieldMetrics implements MinefieldMetrics {
+    private final LatencyHistogram initNanos = new LatencyHistogram();
+    private final LatencyHistogram revealNanos = new LatencyHistogram();
+    private final LatencyHistogram cascadeSizes = new LatencyHistogram();
+    private final LongAdder minesPlaced = new LongAdder();
+    private final LongAdder flagsSet = new LongAdder();
+    private final LongAdder flagsCleared = new LongAdder();
+    private final LongAdder detonatedMines = new LongAdder();
+
+    @Override
+    public void initialized(long nanos, int minesPlaced) {
+        initNanos.record(nanos);
+        this.minesPlaced.add(minesPlaced);
+    }
+
+    @Override
+    public void revealed(int uncoveredTiles, long nanos) {
+        revealNanos.record(nanos);
+        cascadeSizes.record(uncoveredTiles);
+    }
+
+    @Override
+    public void flagToggled(boolean flagged) {
+        (flagged ? flagsSet : flagsCleared).increment();
+    }
+
+    @Override
+    public void minesDetonated(int mines) {
+        detonatedMines.add(mines);
+    }
+
+    /*
+    getters
+     */
+    public LatencyHistogram getInitNanos() {
+        return initNanos;
+    }
+
+    public LatencyHistogram getRevealNanos() {
+        return revealNanos;
+    }
+
+    /**
+     * @return the number of tiles uncovered per reveal, recorded like nanoseconds
+     */
+    public LatencyHistogram getCascadeSizes() {
+        return cascadeSizes;
+    }
+
+    public long getMinesPlaced() {
+        return minesPlaced.sum();
+    }
+
+    public long getFlagsSet() {
+        return flagsSet.sum();
+    }
+
+    public long getFlagsCleared() {
+        return flagsCleared.sum();
+    }
+
+    public long getDetonatedMines() {
+        return detonatedMines.sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("init: %s%nreveal: %s%ncascade: count=%d mean=%.1f p50=%d p99=%d max=%d tiles%n"
+                        + "mines placed=%d flags set=%d cleared=%d detonated=%d", initNanos, revealNanos,
+                cascadeSizes.getCount(), cascadeSizes.getMean(), cascadeSizes.getPercentile(50),
+                cascadeSizes.getPercentile(99), cascadeSizes.getMax(), getMinesPlaced(), getFlagsSet(),
+                getFlagsCleared(), getDetonatedMines());
+    }
+}
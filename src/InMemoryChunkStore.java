@@ -0,0 +1,22 @@
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryChunkStore implements ChunkStore {
+    private final Map<Long, byte[]> chunks = new HashMap<>();
+
+    @Override
+    public byte[] load(long key) {
+        byte[] cells = chunks.get(key);
+        return cells == null ? null : cells.clone();
+    }
+
+    @Override
+    public void store(long key, byte[] cells) {
+        chunks.put(key, cells.clone());
+    }
+
+    @Override
+    public long[] getKeys() {
+        return chunks.keySet().stream().mapToLong(Long::longValue).toArray();
+    }
+}
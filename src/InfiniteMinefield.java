@@ -0,0 +1,200 @@
+/**
+ * <p>Minefield without borders, divided into chunks of {@value #CHUNK_SIZE} x {@value #CHUNK_SIZE} tiles.</p>
+ * <p>The mines of a chunk are derived from the world seed and the chunk's coordinates only, so chunks are
+ * generated when they are first needed and can be evicted and generated again at any time. Only the state of
+ * changed chunks has to be kept, in the {@link ChunkStore} of the {@link ChunkCache}, which bounds the memory
+ * of the field by the capacity of the cache.</p>
+ * <p>A cascade can grow without end on sparse fields, so {@link #uncoverTiles(int, int)} spreads breadth first
+ * and stops after a maximum number of tiles. The tiles at the edge of a stopped cascade stay uncovered and can
+ * be clicked again.</p>
+ */
+public class InfiniteMinefield {
+    public static final int CHUNK_BITS = 6;
+    public static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final int DEFAULT_CACHED_CHUNKS = 1024;
+    private static final int DEFAULT_MAX_UNCOVERED_TILES = 1 << 20;
+    private final long seed;
+    private final float minePercentage;
+    private final long mineThreshold;
+    private final int maxUncoveredTiles;
+    private final ChunkCache chunks;
+    private boolean initialized = false;
+    private int initX;
+    private int initY;
+    private long lastKey;
+    private ChunkCache.Chunk lastChunk;
+
+    public InfiniteMinefield(long seed, float minePercentage) {
+        this(seed, minePercentage, DEFAULT_CACHED_CHUNKS, DEFAULT_MAX_UNCOVERED_TILES, new InMemoryChunkStore());
+    }
+
+    public InfiniteMinefield(long seed, float minePercentage, int cachedChunks, int maxUncoveredTiles, ChunkStore store) {
+        this.seed = seed;
+        this.minePercentage = minePercentage;
+        mineThreshold = (long) (minePercentage * (double) (1L << 53));
+        this.maxUncoveredTiles = maxUncoveredTiles;
+        chunks = new ChunkCache(cachedChunks, store, this::generateChunk);
+    }
+
+    /*
+    initialization
+     */
+    public void init(int xPos, int yPos) {
+        initialized = true;
+        initX = xPos;
+        initY = yPos;
+        lastChunk = null;
+        chunks.updateAll((key, cells) -> {
+            byte[] generated = generateChunk(key);
+            for (int i = 0; i < cells.length; i++) {
+                int state = cells[i] & (CellState.UNCOVERED | CellState.FLAGGED);
+                cells[i] = (byte) (generated[i] | state);
+            }
+        });
+    }
+
+    private byte[] generateChunk(long key) {
+        int xOffset = getChunkX(key) << CHUNK_BITS;
+        int yOffset = getChunkY(key) << CHUNK_BITS;
+        int size = CHUNK_SIZE + 2;
+        boolean[] mines = new boolean[size * size];
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < size; y++) {
+                mines[x * size + y] = isMine(xOffset + x - 1, yOffset + y - 1);
+            }
+        }
+        byte[] cells = new byte[CHUNK_SIZE * CHUNK_SIZE];
+        for (int x = 1; x <= CHUNK_SIZE; x++) {
+            for (int y = 1; y <= CHUNK_SIZE; y++) {
+                int nMines = 0;
+                for (int aroundX = x - 1; aroundX <= x + 1; aroundX++) {
+                    for (int aroundY = y - 1; aroundY <= y + 1; aroundY++) {
+                        if (mines[aroundX * size + aroundY]) nMines++;
+                    }
+                }
+                int cell = nMines;
+                if (mines[x * size + y]) cell = CellState.MINE | (nMines - 1);
+                cells[(x - 1) * CHUNK_SIZE + y - 1] = (byte) cell;
+            }
+        }
+        return cells;
+    }
+
+    private boolean isMine(int x, int y) {
+        if (!initialized) return false;
+        if (Math.abs((long) x - initX) <= 1 && Math.abs((long) y - initY) <= 1) return false;
+        long chunkSeed = mix(seed ^ mix(getChunkKey(x, y)));
+        long hash = mix(chunkSeed + ((x & CHUNK_MASK) << CHUNK_BITS | (y & CHUNK_MASK)) * 0x9E3779B97F4A7C15L);
+        return (hash >>> 11) < mineThreshold;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /*
+    interaction methods
+     */
+    public void alterTileFlagged(int xPos, int yPos) {
+        int cell = getCell(xPos, yPos);
+        if (CellState.isUncovered(cell)) return;
+        setCell(xPos, yPos, cell ^ CellState.FLAGGED);
+    }
+
+    public void uncoverTiles(int xPos, int yPos) {
+        int cell = getCell(xPos, yPos);
+        if (CellState.isFlagged(cell)) return;
+        cell = uncoverTile(xPos, yPos, cell);
+        if (!SequentialRevealEngine.isCascading(cell)) return;
+        IntList queue = new IntList();
+        queue.add(xPos);
+        queue.add(yPos);
+        int uncoveredTiles = 1;
+        for (int head = 0; head < queue.size() && uncoveredTiles < maxUncoveredTiles; head += 2) {
+            int x = queue.get(head);
+            int y = queue.get(head + 1);
+            for (long aroundX = x - 1L; aroundX <= x + 1L; aroundX++) {
+                for (long aroundY = y - 1L; aroundY <= y + 1L; aroundY++) {
+                    if (!isOnWorld(aroundX, aroundY) || uncoveredTiles >= maxUncoveredTiles) continue;
+                    int aroundCell = getCell((int) aroundX, (int) aroundY);
+                    if (CellState.isUncovered(aroundCell) || CellState.isFlagged(aroundCell)) continue;
+                    aroundCell = uncoverTile((int) aroundX, (int) aroundY, aroundCell);
+                    uncoveredTiles++;
+                    if (!SequentialRevealEngine.isCascading(aroundCell)) continue;
+                    queue.add((int) aroundX);
+                    queue.add((int) aroundY);
+                }
+            }
+        }
+    }
+
+    private int uncoverTile(int x, int y, int cell) {
+        if (CellState.isMine(cell)) cell |= CellState.DETONATED;
+        cell |= CellState.UNCOVERED;
+        setCell(x, y, cell);
+        return cell;
+    }
+
+    private boolean isOnWorld(long x, long y) {
+        return x >= Integer.MIN_VALUE && x <= Integer.MAX_VALUE && y >= Integer.MIN_VALUE && y <= Integer.MAX_VALUE;
+    }
+
+    /*
+    getters
+     */
+    /**
+     * @return the state of the tile in the layout of {@link CellState}
+     */
+    public int getCell(int x, int y) {
+        return getChunk(x, y).getCell(getIndexInChunk(x, y));
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public float getMinePercentage() {
+        return minePercentage;
+    }
+
+    public int getCachedChunks() {
+        return chunks.size();
+    }
+
+    /*
+    misc
+     */
+    private void setCell(int x, int y, int cell) {
+        getChunk(x, y).setCell(getIndexInChunk(x, y), cell);
+    }
+
+    private ChunkCache.Chunk getChunk(int x, int y) {
+        long key = getChunkKey(x, y);
+        if (lastChunk == null || key != lastKey) {
+            lastChunk = chunks.get(key);
+            lastKey = key;
+        } else {
+            chunks.recordHit();
+        }
+        return lastChunk;
+    }
+
+    private static long getChunkKey(int x, int y) {
+        return ((long) (x >> CHUNK_BITS) << 32) | ((y >> CHUNK_BITS) & 0xFFFFFFFFL);
+    }
+
+    private static int getChunkX(long key) {
+        return (int) (key >> 32);
+    }
+
+    private static int getChunkY(long key) {
+        return (int) key;
+    }
+
+    private static int getIndexInChunk(int x, int y) {
+        return (x & CHUNK_MASK) << CHUNK_BITS | (y & CHUNK_MASK);
+    }
+}
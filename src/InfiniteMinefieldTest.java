@@ -0,0 +1,122 @@
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class InfiniteMinefieldTest {
+    private static final int SIZE = InfiniteMinefield.CHUNK_SIZE;
+
+    private static InfiniteMinefield newField(long seed, float minePercentage, int cachedChunks) {
+        return new InfiniteMinefield(seed, minePercentage, cachedChunks, 100_000, new InMemoryChunkStore());
+    }
+
+    private static int countMinesAround(InfiniteMinefield field, int xPos, int yPos) {
+        int nMines = 0;
+        for (int x = xPos - 1; x <= xPos + 1; x++) {
+            for (int y = yPos - 1; y <= yPos + 1; y++) {
+                if ((x != xPos || y != yPos) && CellState.isMine(field.getCell(x, y))) nMines++;
+            }
+        }
+        return nMines;
+    }
+
+    @Test
+    public void noMinesBeforeInitialization() {
+        InfiniteMinefield field = newField(1, 0.5F, 4);
+        for (int x = -SIZE; x < SIZE; x++) {
+            assertFalse(CellState.isMine(field.getCell(x, 3)));
+        }
+    }
+
+    @Test
+    public void sameSeedGivesSameMines() {
+        InfiniteMinefield field1 = newField(42, 0.2F, 4);
+        InfiniteMinefield field2 = newField(42, 0.2F, 4);
+        field1.init(0, 0);
+        field2.init(0, 0);
+        for (int x = -100; x < 100; x++) {
+            for (int y = -100; y < 100; y += 7) {
+                assertEquals(field1.getCell(x, y), field2.getCell(x, y));
+            }
+        }
+    }
+
+    @Test
+    public void differentSeedsGiveDifferentMines() {
+        InfiniteMinefield field1 = newField(1, 0.2F, 4);
+        InfiniteMinefield field2 = newField(2, 0.2F, 4);
+        field1.init(0, 0);
+        field2.init(0, 0);
+        boolean differ = false;
+        for (int x = 0; x < SIZE && !differ; x++) {
+            differ = field1.getCell(x, 5) != field2.getCell(x, 5);
+        }
+        assertTrue(differ);
+    }
+
+    @Test
+    public void tilesAroundInitPositionAreNotMines() {
+        InfiniteMinefield field = newField(7, 0.99F, 4);
+        field.init(SIZE, -1);
+        for (int x = SIZE - 1; x <= SIZE + 1; x++) {
+            for (int y = -2; y <= 0; y++) {
+                assertFalse(CellState.isMine(field.getCell(x, y)));
+            }
+        }
+    }
+
+    @Test
+    public void minesAroundAreCountedAcrossChunkBorders() {
+        InfiniteMinefield field = newField(3, 0.3F, 16);
+        field.init(0, 0);
+        for (int x = -SIZE - 2; x < SIZE + 2; x++) {
+            for (int y : new int[] {-SIZE - 1, -SIZE, -1, 0, SIZE - 1, SIZE}) {
+                assertEquals(countMinesAround(field, x, y), CellState.getMinesAround(field.getCell(x, y)));
+            }
+        }
+    }
+
+    @Test
+    public void evictedChunksKeepTheirState() {
+        InfiniteMinefield field = newField(5, 0.2F, 1);
+        field.init(0, 0);
+        field.alterTileFlagged(3, 3);
+        int cell = field.getCell(SIZE * 10, SIZE * 10);
+        assertTrue(field.getCachedChunks() <= 1);
+        assertTrue(CellState.isFlagged(field.getCell(3, 3)));
+        assertEquals(cell, field.getCell(SIZE * 10, SIZE * 10));
+    }
+
+    @Test
+    public void cascadeCrossesChunkBorders() {
+        InfiniteMinefield field = newField(9, 0F, 2);
+        field.init(0, 0);
+        field.uncoverTiles(0, 0);
+        assertTrue(CellState.isUncovered(field.getCell(-1, -1)));
+        assertTrue(CellState.isUncovered(field.getCell(SIZE, SIZE)));
+        assertTrue(CellState.isUncovered(field.getCell(-100, 100)));
+    }
+
+    @Test
+    public void cascadeStopsAfterMaximumNumberOfTiles() {
+        InfiniteMinefield field = new InfiniteMinefield(9, 0F, 64, 1000, new InMemoryChunkStore());
+        field.init(0, 0);
+        field.uncoverTiles(0, 0);
+        int uncovered = 0;
+        for (int x = -100; x <= 100; x++) {
+            for (int y = -100; y <= 100; y++) {
+                if (CellState.isUncovered(field.getCell(x, y))) uncovered++;
+            }
+        }
+        assertEquals(1000, uncovered);
+    }
+
+    @Test
+    public void flagsBeforeInitializationAreKept() {
+        InfiniteMinefield field = newField(11, 0.5F, 4);
+        field.alterTileFlagged(10, 10);
+        field.init(0, 0);
+        assertTrue(CellState.isFlagged(field.getCell(10, 10)));
+        assertEquals(countMinesAround(field, 10, 10), CellState.getMinesAround(field.getCell(10, 10)));
+    }
+}
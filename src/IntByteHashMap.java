@@ -0,0 +1,78 @@
+/**
+ * <p>Open addressing hash map from non-negative {@code int}s to {@code byte}s.</p>
+ */
+public class IntByteHashMap {
+    private static final int EMPTY = -1;
+    private int[] keys;
+    private byte[] values;
+    private int size;
+
+    public IntByteHashMap() {
+        this(16);
+    }
+
+    public IntByteHashMap(int expectedSize) {
+        int capacity = IntHashSet.tableSizeFor(expectedSize);
+        keys = IntHashSet.newKeys(capacity);
+        values = new byte[capacity];
+    }
+
+    public int get(int key, int defaultValue) {
+        int slot = IntHashSet.findSlot(keys, key);
+        return keys[slot] == key ? values[slot] & 0xFF : defaultValue;
+    }
+
+    public void put(int key, int value) {
+        int slot = IntHashSet.findSlot(keys, key);
+        values[slot] = (byte) value;
+        if (keys[slot] == key) return;
+        keys[slot] = key;
+        if (++size * 2 > keys.length) rehash(keys.length * 2);
+    }
+
+    public void remove(int key) {
+        int slot = IntHashSet.findSlot(keys, key);
+        if (keys[slot] != key) return;
+        int mask = keys.length - 1;
+        // shift the rest of the cluster back, so no lookup stops at the removed key
+        for (int next = (slot + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = IntHashSet.mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                values[slot] = values[next];
+                slot = next;
+            }
+        }
+        keys[slot] = EMPTY;
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return a copy of the keys in table order
+     */
+    public int[] keys() {
+        int[] copy = new int[size];
+        int i = 0;
+        for (int key : keys) {
+            if (key != EMPTY) copy[i++] = key;
+        }
+        return copy;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        byte[] oldValues = values;
+        keys = IntHashSet.newKeys(capacity);
+        values = new byte[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int slot = IntHashSet.findSlot(keys, oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            values[slot] = oldValues[i];
+        }
+    }
+}
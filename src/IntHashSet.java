@@ -0,0 +1,128 @@
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * <p>Open addressing hash set of non-negative {@code int}s.</p>
+ * <p>The table shrinks when most keys are removed, so iterating costs time in proportion to the size of the set,
+ * not to the largest size it ever had.</p>
+ */
+public class IntHashSet {
+    private static final int EMPTY = -1;
+    private static final int MIN_CAPACITY = 16;
+    private int[] keys;
+    private int size;
+
+    public IntHashSet() {
+        this(16);
+    }
+
+    public IntHashSet(int expectedSize) {
+        keys = newKeys(tableSizeFor(expectedSize));
+    }
+
+    public boolean add(int key) {
+        int slot = findSlot(keys, key);
+        if (keys[slot] == key) return false;
+        keys[slot] = key;
+        if (++size * 2 > keys.length) rehash(keys.length * 2);
+        return true;
+    }
+
+    public boolean remove(int key) {
+        int slot = findSlot(keys, key);
+        if (keys[slot] != key) return false;
+        int mask = keys.length - 1;
+        // shift the rest of the cluster back, so no lookup stops at the removed key
+        for (int next = (slot + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                keys[slot] = keys[next];
+                slot = next;
+            }
+        }
+        keys[slot] = EMPTY;
+        if (--size * 8 < keys.length && keys.length > MIN_CAPACITY) rehash(keys.length / 2);
+        return true;
+    }
+
+    public boolean contains(int key) {
+        return keys[findSlot(keys, key)] == key;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * <p>The set must not be changed while the iterator is used.</p>
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int slot = nextSlot(0);
+
+            @Override
+            public boolean hasNext() {
+                return slot < keys.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int key = keys[slot];
+                slot = nextSlot(slot + 1);
+                return key;
+            }
+        };
+    }
+
+    private int nextSlot(int slot) {
+        while (slot < keys.length && keys[slot] == EMPTY) slot++;
+        return slot;
+    }
+
+    public int[] toArray() {
+        int[] array = new int[size];
+        int i = 0;
+        for (int key : keys) {
+            if (key != EMPTY) array[i++] = key;
+        }
+        return array;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        keys = newKeys(capacity);
+        for (int key : oldKeys) {
+            if (key != EMPTY) keys[findSlot(keys, key)] = key;
+        }
+    }
+
+    static int findSlot(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int slot = mix(key) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    static int tableSizeFor(int expectedSize) {
+        return Integer.highestOneBit(Math.max(expectedSize, 4) * 2 - 1) * 2;
+    }
+
+    static int[] newKeys(int capacity) {
+        int[] keys = new int[capacity];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+}
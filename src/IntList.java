@@ -0,0 +1,48 @@
+import java.util.Arrays;
+
+/**
+ * <p>Growable list of primitive {@code int}s, usable as a stack.</p>
+ */
+public class IntList {
+    private int[] values;
+    private int size;
+
+    public IntList() {
+        this(16);
+    }
+
+    public IntList(int initialCapacity) {
+        values = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public void add(int value) {
+        if (size == values.length) values = Arrays.copyOf(values, size * 2);
+        values[size++] = value;
+    }
+
+    public int get(int i) {
+        if (i >= size) throw new IndexOutOfBoundsException("index " + i + " for size " + size);
+        return values[i];
+    }
+
+    public int removeLast() {
+        if (size == 0) throw new IllegalStateException("list is empty");
+        return values[--size];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+}
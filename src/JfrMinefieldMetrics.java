@@ -0,0 +1,95 @@
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * <p>Emits the measurements as JDK Flight Recorder events, so live games can be profiled with
+ * {@code jcmd <pid> JFR.start} and inspected in JDK Mission Control next to the JVM's own events.</p>
+ * <p>Events are only filled and committed while a recording has them enabled. The field reports durations after
+ * the fact and an event cannot be started in the past, so they are carried in an {@code elapsed} field. Flag
+ * events are frequent and cheap to count elsewhere, so a recording has to enable {@code minefield.Flag}
+ * explicitly.</p>
+ */
+public class JfrMinefieldMetrics implements MinefieldMetrics {
+    @Name("minefield.Init")
+    @Label("Minefield Init")
+    @Category("Minefield")
+    @StackTrace(false)
+    static class InitEvent extends Event {
+        @Label("Elapsed")
+        @Timespan
+        long elapsed;
+
+        @Label("Mines Placed")
+        int minesPlaced;
+    }
+
+    @Name("minefield.Reveal")
+    @Label("Minefield Reveal")
+    @Category("Minefield")
+    @StackTrace(false)
+    static class RevealEvent extends Event {
+        @Label("Elapsed")
+        @Timespan
+        long elapsed;
+
+        @Label("Uncovered Tiles")
+        int uncoveredTiles;
+    }
+
+    @Name("minefield.Flag")
+    @Label("Minefield Flag")
+    @Category("Minefield")
+    @Enabled(false)
+    @StackTrace(false)
+    static class FlagEvent extends Event {
+        @Label("Flagged")
+        boolean flagged;
+    }
+
+    @Name("minefield.Detonation")
+    @Label("Minefield Detonation")
+    @Category("Minefield")
+    static class DetonationEvent extends Event {
+        @Label("Mines")
+        int mines;
+    }
+
+    @Override
+    public void initialized(long nanos, int minesPlaced) {
+        InitEvent event = new InitEvent();
+        if (!event.isEnabled()) return;
+        event.elapsed = nanos;
+        event.minesPlaced = minesPlaced;
+        event.commit();
+    }
+
+    @Override
+    public void revealed(int uncoveredTiles, long nanos) {
+        RevealEvent event = new RevealEvent();
+        if (!event.isEnabled()) return;
+        event.elapsed = nanos;
+        event.uncoveredTiles = uncoveredTiles;
+        event.commit();
+    }
+
+    @Override
+    public void flagToggled(boolean flagged) {
+        FlagEvent event = new FlagEvent();
+        if (!event.isEnabled()) return;
+        event.flagged = flagged;
+        event.commit();
+    }
+
+    @Override
+    public void minesDetonated(int mines) {
+        DetonationEvent event = new DetonationEvent();
+        if (!event.isEnabled()) return;
+        event.mines = mines;
+        event.commit();
+    }
+}
@@ -0,0 +1,79 @@
+import java.util.Arrays;
+
+/**
+ * <p>Only stores tiles that have been changed after the mines were placed.</p>
+ * <p>Mines are kept as a sorted array of indices and the mines around an untouched tile are counted on demand,
+ * so creating the board is free and its memory grows with the number of mines and the explored area.</p>
+ */
+public class LazyBoard implements Board {
+    private static final int[] NO_MINES = new int[0];
+    private final int xSize;
+    private final int ySize;
+    private final IntByteHashMap touchedCells = new IntByteHashMap();
+    private int[] minePositions = NO_MINES;
+
+    public LazyBoard(int xSize, int ySize) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+    }
+
+    @Override
+    public int getXSize() {
+        return xSize;
+    }
+
+    @Override
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public int getCell(int index) {
+        int cell = touchedCells.get(index, -1);
+        return cell == -1 ? getUntouchedCell(index) : cell;
+    }
+
+    @Override
+    public void setCell(int index, int cell) {
+        touchedCells.put(index, cell);
+    }
+
+    /**
+     * <p>Tiles touched before, e.g. flagged before the first click, keep their flags and get their mine and mines
+     * around.</p>
+     */
+    @Override
+    public void placeMines(int[] minePositions) {
+        this.minePositions = minePositions.clone();
+        Arrays.sort(this.minePositions);
+        for (int index : touchedCells.keys()) {
+            int cell = touchedCells.get(index, 0) & ~(CellState.MINE | CellState.MINES_AROUND);
+            touchedCells.put(index, cell | getUntouchedCell(index));
+        }
+    }
+
+    @Override
+    public void countMinesAround(boolean parallel) {
+    }
+
+    public int getTouchedTiles() {
+        return touchedCells.size();
+    }
+
+    private int getUntouchedCell(int index) {
+        if (minePositions.length == 0) return 0;
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        int nMines = 0;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                if ((x != xPos || y != yPos) && isMine(x * ySize + y)) nMines++;
+            }
+        }
+        return (isMine(index) ? CellState.MINE : 0) | nMines;
+    }
+
+    private boolean isMine(int index) {
+        return Arrays.binarySearch(minePositions, index) >= 0;
+    }
+}
@@ -0,0 +1,43 @@
+import java.nio.MappedByteBuffer;
+
+/**
+ * <p>Board on memory mapped segments of a file in the layout of {@link ByteBoard}.</p>
+ */
+public class MappedBoard implements Board {
+    static final int SEGMENT_BITS = 30;
+    private static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+    private final int xSize;
+    private final int ySize;
+    private final MappedByteBuffer[] segments;
+
+    MappedBoard(int xSize, int ySize, MappedByteBuffer[] segments) {
+        this.xSize = xSize;
+        this.ySize = ySize;
+        this.segments = segments;
+    }
+
+    @Override
+    public int getXSize() {
+        return xSize;
+    }
+
+    @Override
+    public int getYSize() {
+        return ySize;
+    }
+
+    @Override
+    public int getCell(int index) {
+        return segments[index >>> SEGMENT_BITS].get(index & SEGMENT_MASK) & 0xFF;
+    }
+
+    @Override
+    public void setCell(int index, int cell) {
+        segments[index >>> SEGMENT_BITS].put(index & SEGMENT_MASK, (byte) cell);
+    }
+
+    @Override
+    public boolean isConcurrentCellAccessSafe() {
+        return true;
+    }
+}
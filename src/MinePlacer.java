@@ -0,0 +1,11 @@
+public interface MinePlacer {
+    /**
+     * <p>Chooses the tiles that become mines.</p>
+     * <p>Tiles are addressed by their flat index {@code x * ySize + y}. {@code safeTiles} is sorted ascending,
+     * contains {@code initPos} and must not receive a mine.</p>
+     * <p>All random decisions must be drawn from {@code random}, so a field can be generated again from its seed.</p>
+     *
+     * @return the indices of exactly {@code minesToCreate} distinct tiles
+     */
+    int[] placeMines(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate, RandomSource random);
+}
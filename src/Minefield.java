@@ -1,33 +1,125 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class Minefield {
     private final int tilesInXDirection;
     private final int tilesInYDirection;
     private final float minePercentage;
     private final int numberOfTiles;
+    private final MinePlacer minePlacer;
+    private final RevealEngine revealEngine;
+    private final boolean countMinesAroundInParallel;
+    private final long seed;
+    private final RandomSource random;
+    private final MinefieldMetrics metrics;
+    private final boolean measured;
+    private final Board board;
+    private final AdjacentFlagCounter flagCounter;
     private Tile[][] tileArray;
-    private int[][] allTilePositions;
+    private MinefieldJournal journal;
+    private final List<MinefieldListener> listeners = new ArrayList<>();
+    private final IntHashSet frontier = new IntHashSet();
+    private final AtomicInteger uncoveredSafeTiles = new AtomicInteger();
+    private final AtomicInteger flaggedTiles = new AtomicInteger();
+    private final AtomicInteger detonatedMines = new AtomicInteger();
+    private volatile int mines;
+    private volatile boolean initialized;
+    private volatile boolean indexesBuilt;
+    private boolean pooled;
+    private final boolean customRandom;
 
     Minefield(int tilesInXDirection, int tilesInYDirection, float minePercentage) {
-        this.tilesInXDirection = tilesInXDirection;
-        this.tilesInYDirection = tilesInYDirection;
+        this(tilesInXDirection, tilesInYDirection, minePercentage, new MinefieldConfig());
+    }
+
+    Minefield(int tilesInXDirection, int tilesInYDirection, float minePercentage, MinefieldConfig config) {
+        this(config.getBoardFactory().newBoard(tilesInXDirection, tilesInYDirection), minePercentage, config, true);
+    }
+
+    /**
+     * <p>Continues a game on a board that may already be played, e.g. of a loaded snapshot. Its tiles are counted
+     * once.</p>
+     */
+    Minefield(Board board, float minePercentage, MinefieldConfig config) {
+        this(board, minePercentage, config, false);
+        countTiles();
+    }
+
+    /**
+     * <p>Continues a game on a board whose tiles were counted before, e.g. when its snapshot was saved, so the
+     * board is not scanned.</p>
+     */
+    Minefield(Board board, float minePercentage, MinefieldConfig config, int mines, int uncoveredSafeTiles,
+              int flaggedTiles, int detonatedMines) {
+        this(board, minePercentage, config, false);
+        setCounts(mines, uncoveredSafeTiles, flaggedTiles, detonatedMines);
+    }
+
+    /**
+     * <p>Starts a game on a board with {@code mines} mines placed and counted around and no tile uncovered or
+     * flagged yet, e.g. one taken from a {@link BoardPool}. Its tiles are not counted again.</p>
+     */
+    Minefield(Board board, int mines, float minePercentage, MinefieldConfig config) {
+        this(board, minePercentage, config, true);
+        this.mines = mines;
+        initialized = true;
+        pooled = true;
+    }
+
+    private Minefield(Board board, float minePercentage, MinefieldConfig config, boolean newBoard) {
+        this.board = board;
+        flagCounter = new AdjacentFlagCounter(board.getXSize(), board.getYSize());
+        tilesInXDirection = board.getXSize();
+        tilesInYDirection = board.getYSize();
         numberOfTiles = tilesInXDirection * tilesInYDirection;
         this.minePercentage = minePercentage;
-        constructAttrs();
+        minePlacer = config.getMinePlacer();
+        revealEngine = config.getRevealEngine();
+        countMinesAroundInParallel = config.isCountMinesAroundInParallel();
+        seed = config.getSeed() != null ? config.getSeed() : ThreadLocalRandom.current().nextLong();
+        customRandom = config.getRandomSource() != null;
+        random = customRandom ? config.getRandomSource() : RandomSource.seeded(seed);
+        metrics = config.getMetrics();
+        measured = metrics != MinefieldMetrics.NOOP;
+        // the adjacent flags and the frontier of a played board are built on first use
+        indexesBuilt = newBoard;
     }
 
     /*
     constructing methods
      */
-    private void constructAttrs() {
-        allTilePositions = generateAllTilePositions();
-        tileArray = newTilesArray();
+    private void countTiles() {
+        int mines = 0;
+        int uncoveredSafeTiles = 0;
+        int flaggedTiles = 0;
+        int detonatedMines = 0;
+        for (int index = 0; index < numberOfTiles; index++) {
+            int cell = board.getCell(index);
+            if (CellState.isMine(cell)) mines++;
+            if (CellState.isDetonated(cell)) detonatedMines++;
+            else if (CellState.isUncovered(cell)) uncoveredSafeTiles++;
+            if (CellState.isFlagged(cell)) flaggedTiles++;
+        }
+        setCounts(mines, uncoveredSafeTiles, flaggedTiles, detonatedMines);
+    }
+
+    private void setCounts(int mines, int uncoveredSafeTiles, int flaggedTiles, int detonatedMines) {
+        this.uncoveredSafeTiles.set(uncoveredSafeTiles);
+        this.flaggedTiles.set(flaggedTiles);
+        this.detonatedMines.set(detonatedMines);
+        this.mines = mines;
+        initialized = mines > 0 || uncoveredSafeTiles > 0 || detonatedMines > 0;
     }
 
     private Tile[][] newTilesArray() {
         Tile[][] array = new Tile[tilesInXDirection][tilesInYDirection];
-        for (int[] pos: allTilePositions) {
-           array[pos[0]][pos[1]] = new Tile();
+        for (int x = 0; x < tilesInXDirection; x++) {
+            for (int y = 0; y < tilesInYDirection; y++) {
+                array[x][y] = new Tile(board, getIndex(x, y));
+            }
         }
         return array;
     }
@@ -36,167 +128,399 @@ public class Minefield {
     initialization
      */
     public void init(int xPos, int yPos) {
+        checkPosition(xPos, yPos);
+        appendToJournal(MinefieldJournal.INIT, xPos, yPos);
+        long start = measured ? System.nanoTime() : 0;
         int[] pos = new int[] {xPos, yPos};
-        int[][] minePositions = getMinePositions(pos);
+        int[] minePositions = getMinePositions(pos);
         makeMines(minePositions);
         setMinesAroundTiles();
+        mines = minePositions.length;
+        if (measured) metrics.initialized(System.nanoTime() - start, minePositions.length);
+        initialized = true;
+        // tiles uncovered before the mines were placed may have become mines
+        if (uncoveredSafeTiles.get() > 0) countTiles();
     }
 
-    private int[][] getMinePositions(int[] pos) {
+    private int[] getMinePositions(int[] pos) {
         int minesToCreate = (int) (numberOfTiles * minePercentage);
         int freeTiles =  numberOfTiles - minesToCreate;
-        int[][] availableMinePositions = generateAllTilePositions();
-        availableMinePositions = removePositionsAroundInitPos(availableMinePositions, pos, freeTiles - 1);
-        availableMinePositions = removePosFromPosArray(availableMinePositions, pos);
-        return generateMinePositions(availableMinePositions, minesToCreate);
+        int[] safeTiles = getSafeTiles(pos, freeTiles - 1);
+        return minePlacer.placeMines(tilesInXDirection, tilesInYDirection, getIndex(pos), safeTiles, minesToCreate,
+                random);
     }
 
-    private void makeMines(int[][] minePositions) {
-        for (int [] pos : minePositions) {
-            getTile(pos[0], pos[1]).makeMine();
-        }
+    private void makeMines(int[] minePositions) {
+        board.placeMines(minePositions);
     }
 
     private void setMinesAroundTiles() {
-        for (int[] pos : allTilePositions) {
-            setMineAroundTile(pos);
+        board.countMinesAround(countMinesAroundInParallel);
+    }
+
+    private int[] getSafeTiles(int[] pos, int freeTiles) {
+        int[][] positionsAroundInitPos = getPositionsAroundTile(pos);
+        int safePositionsAround = getSafePositionsAround(positionsAroundInitPos.length, freeTiles);
+        int[] safeTiles = new int[safePositionsAround + 1];
+        safeTiles[0] = getIndex(pos);
+        for (int i = 0; i < safePositionsAround; i++) {
+            int j = i + getRandomIndex(positionsAroundInitPos.length - 1 - i);
+            int[] safePos = positionsAroundInitPos[j];
+            positionsAroundInitPos[j] = positionsAroundInitPos[i];
+            positionsAroundInitPos[i] = safePos;
+            safeTiles[i + 1] = getIndex(safePos);
         }
+        Arrays.sort(safeTiles);
+        return safeTiles;
     }
 
-    private int[][] removePositionsAroundInitPos(int[][] posArray, int[] pos, int freeTiles) {
+    private int getSafePositionsAround(int positionsAround, int freeTiles) {
         if (freeTiles < 8) {
-            return removeRandomPositionsAroundTile(posArray, getPositionsAroundTile(pos), freeTiles);
+            return getMinesToRemove(positionsAround, freeTiles);
         } else {
-            return removeAllPositionsAroundInitPos(posArray, pos);
+            return positionsAround;
         }
     }
 
-    private int[][] removeRandomPositionsAroundTile(int[][] posArray, int[][] positionsAroundInitPos, int freeTiles) {
-        int minesToRemove = getMinesToRemove(positionsAroundInitPos.length, freeTiles);
-        for (int i = 0; i < minesToRemove; i++) {
-            int[] pos = getRandomPos(positionsAroundInitPos);
-            posArray = removePosFromPosArray(posArray, pos);
-            positionsAroundInitPos = removePosFromPosArray(positionsAroundInitPos, pos);
-        }
-        return posArray;
+    private int[][] getPositionsAroundTile(int[] pos) {
+        return getPositionsAroundTile(pos[0], pos[1]);
     }
 
-    private int[][] removeAllPositionsAroundInitPos(int[][] posArray, int[] middlePos) {
-        for (int[] pos : getPositionsAroundTile(middlePos)) {
-            posArray = removePosFromPosArray(posArray, pos[0], pos[1]);
-        }
+    private int[][] addPosToPosArray(int[][] posArray, int[] posToAdd) {
+        posArray = Arrays.copyOf(posArray, posArray.length + 1);
+        posArray[posArray.length - 1] = posToAdd;
         return posArray;
     }
 
-    private int[][] generateMinePositions(int[][] availableMinePositions, int minesToCreate) {
-        int[][] minePositions = new int[minesToCreate][2];
-        for (int createdMines = 0; createdMines < minesToCreate; createdMines++) {
-            int[] pos = getRandomPos(availableMinePositions);
-            availableMinePositions = removePosFromPosArray(availableMinePositions, pos);
-            minePositions[createdMines] = pos;
+    private int getMinesToRemove(int positionsAround, int freeTiles) {
+        return Math.min(positionsAround, freeTiles);
+    }
+
+    private int getRandomIndex(int maxVal) {
+        return random.nextInt(maxVal + 1);
+    }
+
+    private boolean isPositionsOnField(int x, int y) {
+        return (y >= 0) && (x >= 0) && (y <= tilesInYDirection - 1) && (x <= tilesInXDirection - 1);
+    }
+
+    private boolean isPositionInMiddle(int x1, int y1, int x2, int y2) {
+        return x1 == x2 && y1 == y2;
+    }
+
+    /*
+    interaction methods
+     */
+    /**
+     * @return the flagged or unflagged tile, or an empty delta if the tile is uncovered
+     */
+    public MinefieldDelta alterTileFlagged(int xPos, int yPos) {
+        checkPosition(xPos, yPos);
+        appendToJournal(MinefieldJournal.FLAG, xPos, yPos);
+        int index = getIndex(xPos, yPos);
+        if (!toggleFlag(index)) return MinefieldDelta.EMPTY;
+        return publish(MinefieldDelta.of(board, index));
+    }
+
+    /**
+     * @return the uncovered tiles
+     */
+    public MinefieldDelta uncoverTiles(int xPos, int yPos) {
+        checkPosition(xPos, yPos);
+        appendToJournal(MinefieldJournal.UNCOVER, xPos, yPos);
+        long start = measured ? System.nanoTime() : 0;
+        IntList uncovered = new IntList();
+        revealEngine.reveal(board, getIndex(xPos, yPos), uncovered);
+        return publish(countUncovered(uncovered, start));
+    }
+
+    /**
+     * <p>Uncovers the tiles around an uncovered tile once as many of them are flagged as there are mines around
+     * it. A wrong flag detonates the mine next to it.</p>
+     * @return the uncovered tiles, or an empty delta if the tile is covered or has not enough flags around it
+     */
+    public MinefieldDelta chord(int xPos, int yPos) {
+        checkPosition(xPos, yPos);
+        appendToJournal(MinefieldJournal.CHORD, xPos, yPos);
+        int index = getIndex(xPos, yPos);
+        if (!isChordable(index)) return MinefieldDelta.EMPTY;
+        long start = measured ? System.nanoTime() : 0;
+        IntList targets = new IntList(8);
+        addChordTargets(index, targets, null);
+        IntList uncovered = new IntList();
+        revealEngine.reveal(board, targets.toArray(), uncovered);
+        return publish(countUncovered(uncovered, start));
+    }
+
+    /*
+    batch methods
+     */
+    /**
+     * <p>Applies one operation to many tiles at once, e.g. the moves of a bot. Tiles are given by their flat index
+     * {@code x * ySize + y} and every tile is used once, however often it is given. Uncovers and chords reveal
+     * all their tiles in one traversal, so cascades that meet are only walked once.</p>
+     * <p>Chords are decided on the field before the batch and journaled as uncovers of the tiles they reveal,
+     * so replaying the journal gives the same field.</p>
+     * @param operation {@link MinefieldJournal#UNCOVER}, {@link MinefieldJournal#FLAG} or
+     * {@link MinefieldJournal#CHORD}
+     * @return the changed tiles of the whole batch
+     */
+    public MinefieldDelta applyBatch(byte operation, int[] indices) {
+        IntList tiles = getDistinctTiles(indices);
+        switch (operation) {
+            case MinefieldJournal.UNCOVER:
+                return uncoverBatch(tiles);
+            case MinefieldJournal.FLAG:
+                return flagBatch(tiles);
+            case MinefieldJournal.CHORD:
+                return uncoverBatch(getChordTargets(tiles));
+            default:
+                throw new IllegalArgumentException("operation must be UNCOVER, FLAG or CHORD, got " + operation);
         }
-        return minePositions;
     }
 
-    private void setMineAroundTile(int[] middlePos) {
-        int nMines = 0;
-        for (int[] pos : getPositionsAroundTile(middlePos)) {
-            if (getTile(pos[0], pos[1]).isMine()) nMines++;
+    private IntList getDistinctTiles(int[] indices) {
+        IntHashSet seen = new IntHashSet(indices.length);
+        IntList tiles = new IntList(indices.length);
+        for (int index : indices) {
+            if (index < 0 || index >= numberOfTiles) {
+                throw new IllegalArgumentException("index must be within the field, got " + index);
+            }
+            if (seen.add(index)) tiles.add(index);
         }
-        getTile(middlePos[0], middlePos[1]).setMinesAround(nMines);
+        return tiles;
     }
 
-    private int[][] getPositionsAroundTile(int[] pos) {
-        return getPositionsAroundTile(pos[0], pos[1]);
+    private MinefieldDelta uncoverBatch(IntList tiles) {
+        for (int i = 0; i < tiles.size(); i++) {
+            appendToJournal(MinefieldJournal.UNCOVER, tiles.get(i) / tilesInYDirection,
+                    tiles.get(i) % tilesInYDirection);
+        }
+        long start = measured ? System.nanoTime() : 0;
+        IntList uncovered = new IntList();
+        revealEngine.reveal(board, tiles.toArray(), uncovered);
+        return publish(countUncovered(uncovered, start));
+    }
+
+    private MinefieldDelta flagBatch(IntList tiles) {
+        IntList toggled = new IntList();
+        for (int i = 0; i < tiles.size(); i++) {
+            int index = tiles.get(i);
+            appendToJournal(MinefieldJournal.FLAG, index / tilesInYDirection, index % tilesInYDirection);
+            if (toggleFlag(index)) toggled.add(index);
+        }
+        return publish(MinefieldDelta.of(board, toggled));
     }
 
-    private int[][] removePosFromPosArray(int[][] posArray, int[] posToRemove) {
-        int i = getIndexOfVal(posArray, posToRemove);
-        posArray[i] = posArray[posArray.length - 1];
-        return Arrays.copyOf(posArray, posArray.length - 1);
+    private IntList getChordTargets(IntList tiles) {
+        IntList targets = new IntList();
+        IntHashSet seen = new IntHashSet();
+        for (int i = 0; i < tiles.size(); i++) {
+            if (isChordable(tiles.get(i))) addChordTargets(tiles.get(i), targets, seen);
+        }
+        return targets;
     }
 
-    private int[][] removePosFromPosArray(int[][] posArray, int x, int y) {
-        return removePosFromPosArray(posArray, new int[] {x, y});
+    /*
+    tile changes
+     */
+    /**
+     * @return whether the tile was covered and its flag has been toggled
+     */
+    private boolean toggleFlag(int index) {
+        boolean flagged;
+        // the flag is written under the frontier lock, so building the indexes either sees it or runs before
+        synchronized (frontier) {
+            int cell = board.getCell(index);
+            if (CellState.isUncovered(cell)) return false;
+            board.setCell(index, cell ^ CellState.FLAGGED);
+            flagged = !CellState.isFlagged(cell);
+            if (indexesBuilt) {
+                flagCounter.flagChanged(index, flagged);
+                updateFrontier(index, flagged);
+            }
+        }
+        flaggedTiles.addAndGet(flagged ? 1 : -1);
+        if (measured) metrics.flagToggled(flagged);
+        return true;
     }
 
-    private int[][] addPosToPosArray(int[][] posArray, int[] posToAdd) {
-        posArray = Arrays.copyOf(posArray, posArray.length + 1);
-        posArray[posArray.length - 1] = posToAdd;
-        return posArray;
+    private boolean isChordable(int index) {
+        int cell = board.getCell(index);
+        int minesAround = CellState.getMinesAround(cell);
+        if (!CellState.isUncovered(cell) || CellState.isDetonated(cell) || minesAround == 0) return false;
+        buildIndexes();
+        return flagCounter.getFlagsAround(index) == minesAround;
     }
 
-    private int getIndexOfVal(int[][] array, int[] val) {
-        int indexOfVal = -1;
-        for (int i = 0; i < array.length; i++) {
-            if (positionsEqual(array[i], val)) {
-                indexOfVal = i;
-                break;
+    /**
+     * <p>Adds the covered, unflagged tiles around {@code index} that are not yet {@code seen}.</p>
+     */
+    private void addChordTargets(int index, IntList targets, IntHashSet seen) {
+        int xPos = index / tilesInYDirection;
+        int yPos = index % tilesInYDirection;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, tilesInXDirection - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, tilesInYDirection - 1); y++) {
+                int around = getIndex(x, y);
+                int aroundCell = board.getCell(around);
+                if (CellState.isUncovered(aroundCell) || CellState.isFlagged(aroundCell)) continue;
+                if (seen == null || seen.add(around)) targets.add(around);
             }
         }
-        return indexOfVal;
     }
 
-    private int getMinesToRemove(int positionsAround, int freeTiles) {
-        return Math.min(positionsAround, freeTiles);
+    public void addListener(MinefieldListener listener) {
+        listeners.add(listener);
     }
 
-    private int[] getRandomPos(int[][] posArray) {
-        int i = getRandomIndex(posArray.length - 1);
-        return posArray[i];
+    public void removeListener(MinefieldListener listener) {
+        listeners.remove(listener);
     }
 
-    private int getRandomIndex(int maxVal) {
-        return (int) Math.round((Math.random() * (maxVal + 1)) - 0.5F);
+    /**
+     * @param start the time the reveal started, if {@code measured}
+     */
+    private MinefieldDelta countUncovered(IntList uncovered, long start) {
+        MinefieldDelta delta = MinefieldDelta.of(board, uncovered);
+        updateFrontier(delta);
+        int detonated = 0;
+        for (int i = 0; i < delta.size(); i++) {
+            if (CellState.isDetonated(delta.getCell(i))) detonated++;
+        }
+        if (detonated > 0) detonatedMines.addAndGet(detonated);
+        uncoveredSafeTiles.addAndGet(delta.size() - detonated);
+        if (measured) {
+            metrics.revealed(delta.size(), System.nanoTime() - start);
+            if (detonated > 0) metrics.minesDetonated(detonated);
+        }
+        return delta;
     }
 
-    private boolean isPositionsOnField(int x, int y) {
-        return (y >= 0) && (x >= 0) && (y <= tilesInYDirection - 1) && (x <= tilesInXDirection - 1);
+    /*
+    frontier
+     */
+    /**
+     * <p>The frontier is only read and changed while holding its lock, after the tiles have been written. Commands
+     * a {@link GameSession} runs at the same time in different regions therefore always leave it consistent with
+     * the tiles, also where their neighbourhoods overlap.</p>
+     */
+    private void updateFrontier(MinefieldDelta uncovered) {
+        synchronized (frontier) {
+            // a build after the tiles were written already added them
+            if (!indexesBuilt) return;
+            for (int i = 0; i < uncovered.size(); i++) {
+                int index = uncovered.getIndex(i);
+                frontier.remove(index);
+                // the reveal uncovered every unflagged tile around an empty one
+                int cell = uncovered.getCell(i);
+                if (CellState.getMinesAround(cell) > 0 || CellState.isDetonated(cell)) addToFrontier(index);
+            }
+        }
     }
 
-    private boolean isPositionInMiddle(int x1, int y1, int x2, int y2) {
-        return x1 == x2 && y1 == y2;
+    private void updateFrontier(int index, boolean flagged) {
+        synchronized (frontier) {
+            if (flagged) {
+                frontier.remove(index);
+            } else if (isNextToUncoveredTile(index)) {
+                frontier.add(index);
+            }
+        }
     }
 
-    private boolean positionsEqual(int[] pos1, int[] pos2) {
-        return (pos1[0] == pos2[0]) && (pos1[1] == pos2[1]);
+    /**
+     * <p>Builds the adjacent flags and the frontier of a played board from its tiles, once they are first needed.
+     * Loading a large snapshot therefore does not scan the board.</p>
+     */
+    private void buildIndexes() {
+        if (indexesBuilt) return;
+        synchronized (frontier) {
+            if (indexesBuilt) return;
+            for (int index = 0; index < numberOfTiles; index++) {
+                int cell = board.getCell(index);
+                if (CellState.isUncovered(cell)) addToFrontier(index);
+                if (CellState.isFlagged(cell)) flagCounter.flagChanged(index, true);
+            }
+            indexesBuilt = true;
+        }
     }
 
-    /*
-    interaction methods
+    /**
+     * <p>Adds the covered, unflagged neighbours of an uncovered tile.</p>
      */
-    public void alterTileFlagged(int xPos, int yPos) {
-        Tile tile = getTile(xPos, yPos);
-        if (tile.isUncovered()) return;
-        tile.alterFlagged();
+    private void addToFrontier(int index) {
+        int xPos = index / tilesInYDirection;
+        int yPos = index % tilesInYDirection;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, tilesInXDirection - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, tilesInYDirection - 1); y++) {
+                int around = getIndex(x, y);
+                int cell = board.getCell(around);
+                if (!CellState.isUncovered(cell) && !CellState.isFlagged(cell)) frontier.add(around);
+            }
+        }
     }
 
-    public void uncoverTiles(int xPos, int yPos) {
-        Tile tile = getTile(xPos, yPos);
-        uncoverTile(xPos, yPos);
-        if (tile.isDetonated() || tile.isFlagged() || tile.getMinesAround() != 0) return;
-        for (int[] pos : getPositionsAroundTile(xPos, yPos)) {
-            Tile t = getTile(pos);
-            if (t.isUncovered()) continue;
-            uncoverTiles(pos);
+    private boolean isNextToUncoveredTile(int index) {
+        int xPos = index / tilesInYDirection;
+        int yPos = index % tilesInYDirection;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, tilesInXDirection - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, tilesInYDirection - 1); y++) {
+                if (CellState.isUncovered(board.getCell(getIndex(x, y)))) return true;
+            }
         }
+        return false;
+    }
+
+    private MinefieldDelta publish(MinefieldDelta delta) {
+        if (delta.isEmpty()) return delta;
+        for (MinefieldListener listener : listeners) {
+            listener.onChange(delta);
+        }
+        return delta;
+    }
+
+    /**
+     * <p>Records every following call to {@link #init(int, int)}, {@link #uncoverTiles(int, int)},
+     * {@link #alterTileFlagged(int, int)} and {@link #chord(int, int)} in {@code journal}, before it is
+     * executed.</p>
+     * @throws IllegalStateException if a replay of the journal would not give this field, see
+     * {@link #checkJournalable(long)}
+     */
+    public void setJournal(MinefieldJournal journal) {
+        if (journal != null) checkJournalable(journal.getPosition());
+        this.journal = journal;
     }
 
-    private void uncoverTiles(int[] pos) {
-        uncoverTiles(pos[0], pos[1]);
+    /**
+     * <p>Rejects journals whose replay from the seed would silently give another field: if the field was started
+     * on a board of a {@link BoardPool} or draws from a {@link RandomSource} of its config instead of its seed,
+     * or if it is initialized and the journal has no records, so it misses the INIT.</p>
+     * @param journalPosition the number of records the journal already holds
+     */
+    void checkJournalable(long journalPosition) {
+        if (pooled) throw new IllegalStateException("a field started from a board pool cannot be journaled");
+        if (customRandom) {
+            throw new IllegalStateException("a field drawing from a custom random source cannot be journaled");
+        }
+        if (initialized && journalPosition == 0) {
+            throw new IllegalStateException("an initialized field cannot be journaled by an empty journal");
+        }
     }
 
-    private void uncoverTile(int x, int y) {
-        Tile tile = getTile(x, y);
-        if (tile.isFlagged()) return;
-        if (tile.isMine()) tile.detonate();
-        tile.uncover();
+    private void appendToJournal(byte operation, int x, int y) {
+        if (journal == null) return;
+        try {
+            journal.append(operation, x, y);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     /*
     getters
      */
     public Tile[][] getTilesArray() {
+        if (tileArray == null) tileArray = newTilesArray();
         return tileArray;
     }
 
@@ -208,15 +532,97 @@ public class Minefield {
         return tilesInYDirection;
     }
 
+    public float getMinePercentage() {
+        return minePercentage;
+    }
+
+    /**
+     * <p>The seed the mines are placed from. Building a field with the same size, mine percentage and seed and
+     * initializing it at the same position gives the same mines, unless the config supplied its own
+     * {@link RandomSource}.</p>
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * <p>Answered from counters that every command keeps up to date, without looking at the tiles.</p>
+     */
+    public GameStatus getStatus() {
+        if (detonatedMines.get() > 0) return GameStatus.LOST;
+        if (!initialized) return GameStatus.NOT_STARTED;
+        if (uncoveredSafeTiles.get() == numberOfTiles - mines) return GameStatus.WON;
+        return GameStatus.RUNNING;
+    }
+
+    /**
+     * @return the number of mines minus the number of flags, which is negative if there are too many flags
+     */
+    public int getRemainingMines() {
+        return mines - flaggedTiles.get();
+    }
+
+    public int getMines() {
+        return mines;
+    }
+
+    public int getUncoveredSafeTiles() {
+        return uncoveredSafeTiles.get();
+    }
+
+    public int getFlaggedTiles() {
+        return flaggedTiles.get();
+    }
+
+    public int getDetonatedMines() {
+        return detonatedMines.get();
+    }
+
+    /**
+     * <p>Iterates over the flat indices of the covered, unflagged tiles next to an uncovered tile. The frontier
+     * is kept up to date by every command, so this costs time in proportion to the frontier, not to the board.</p>
+     * <p>The field must not be changed while the iterator is used, e.g. iterate inside
+     * {@link GameSession#exclusively(java.util.function.Function)} on a shared field.</p>
+     */
+    public PrimitiveIterator.OfInt getFrontier() {
+        buildIndexes();
+        return frontier.iterator();
+    }
+
+    public int getFrontierSize() {
+        buildIndexes();
+        synchronized (frontier) {
+            return frontier.size();
+        }
+    }
+
+    public MinefieldJournal getJournal() {
+        return journal;
+    }
+
+    Board getBoard() {
+        return board;
+    }
+
     /*
     misc
      */
-    private Tile getTile(int[] pos) {
-        return getTile(pos[0], pos[1]);
+    /**
+     * <p>Rejects a position before it is journaled or read, because its flat index could name another tile.</p>
+     */
+    void checkPosition(int x, int y) {
+        if (!isPositionsOnField(x, y)) {
+            throw new IndexOutOfBoundsException("position (" + x + ", " + y + ") is outside the "
+                    + tilesInXDirection + "x" + tilesInYDirection + " field");
+        }
+    }
+
+    private int getIndex(int[] pos) {
+        return getIndex(pos[0], pos[1]);
     }
 
-    private Tile getTile(int x, int y) {
-        return tileArray[x][y];
+    private int getIndex(int x, int y) {
+        return x * tilesInYDirection + y;
     }
 
     private int[][] getPositionsAroundTile(int xPos, int yPos) {
@@ -230,17 +636,4 @@ public class Minefield {
         }
         return positions;
     }
-
-    private int[][] generateAllTilePositions() {
-        int[][] positions = new int[numberOfTiles][2];
-        int index = 0;
-        for (int x = 0; x < tilesInXDirection; x++) {
-            for (int y = 0; y < tilesInYDirection; y++) {
-                positions[index] = new int[] {x, y};
-                index++;
-            }
-        }
-        return positions;
-    }
 }
-
@@ -0,0 +1,157 @@
+import java.nio.ByteBuffer;
+
+/**
+ * <p>Binary encoding of what a player may see of a board, for sending it to remote clients.</p>
+ * <p>Every tile is reduced to a visible code of four bits: the number of mines around an uncovered tile, or
+ * whether it is covered, flagged or a detonated mine. Mines under covered tiles are never encoded.</p>
+ * <p>A full board is encoded as runs of equal codes, each one varint of {@code (length - 1) << 4 | code}, so
+ * covered areas shrink to a few bytes and no tile takes more than one byte. A {@link MinefieldDelta} is encoded
+ * as a varint of its number of tiles followed by, per tile, a varint of the zigzag encoded distance to the
+ * previous index and one byte of the code. The tiles of a cascade are neighbours, so most take two or three
+ * bytes.</p>
+ * <p>The codec writes into and reads from buffers supplied by the caller, typically direct buffers reused for
+ * every message, and allocates nothing per tile.</p>
+ */
+public final class MinefieldCodec {
+    private static final int COVERED = 9;
+    private static final int FLAGGED = 10;
+    private static final int DETONATED = 11;
+    private static final int CODE_BITS = 4;
+    private static final int CODE_MASK = (1 << CODE_BITS) - 1;
+    private static final int MAX_RUN_LENGTH = 1 << (32 - CODE_BITS);
+    private static final int MAX_VARINT_LENGTH = 5;
+
+    private MinefieldCodec() {
+    }
+
+    /*
+    full board
+     */
+    /**
+     * @return the number of bytes a board of the given size takes at most
+     */
+    public static int getMaxBoardLength(int xSize, int ySize) {
+        return 2 * MAX_VARINT_LENGTH + xSize * ySize;
+    }
+
+    public static void encodeBoard(Board board, ByteBuffer out) {
+        writeVarint(out, board.getXSize());
+        writeVarint(out, board.getYSize());
+        int numberOfTiles = board.getNumberOfTiles();
+        int runCode = getCode(board.getCell(0));
+        int runStart = 0;
+        for (int index = 1; index < numberOfTiles; index++) {
+            int code = getCode(board.getCell(index));
+            if (code == runCode) continue;
+            writeRun(out, index - runStart, runCode);
+            runCode = code;
+            runStart = index;
+        }
+        writeRun(out, numberOfTiles - runStart, runCode);
+    }
+
+    private static void writeRun(ByteBuffer out, int length, int code) {
+        for (; length > MAX_RUN_LENGTH; length -= MAX_RUN_LENGTH) {
+            writeVarint(out, (MAX_RUN_LENGTH - 1) << CODE_BITS | code);
+        }
+        writeVarint(out, (length - 1) << CODE_BITS | code);
+    }
+
+    public static Board decodeBoard(ByteBuffer in) {
+        Board board = new ByteBoard(readVarint(in), readVarint(in));
+        int numberOfTiles = board.getNumberOfTiles();
+        int index = 0;
+        while (index < numberOfTiles) {
+            int run = readVarint(in);
+            int cell = getCell(run & CODE_MASK);
+            long end = (long) index + (run >>> CODE_BITS) + 1;
+            if (end > numberOfTiles) throw new IllegalArgumentException("run exceeds the board at tile " + index);
+            for (; index < end; index++) {
+                board.setCell(index, cell);
+            }
+        }
+        return board;
+    }
+
+    /*
+    deltas
+     */
+    /**
+     * @return the number of bytes a delta of the given size takes at most
+     */
+    public static int getMaxDeltaLength(int size) {
+        return MAX_VARINT_LENGTH + size * (MAX_VARINT_LENGTH + 1);
+    }
+
+    public static void encodeDelta(MinefieldDelta delta, ByteBuffer out) {
+        writeVarint(out, delta.size());
+        int previous = 0;
+        for (int i = 0; i < delta.size(); i++) {
+            int index = delta.getIndex(i);
+            writeVarint(out, zigzag(index - previous));
+            out.put((byte) getCode(delta.getCell(i)));
+            previous = index;
+        }
+    }
+
+    /**
+     * <p>Applies an encoded delta to a board decoded by {@link #decodeBoard(ByteBuffer)}.</p>
+     */
+    public static void applyDelta(ByteBuffer in, Board board) {
+        int size = readVarint(in);
+        int index = 0;
+        for (int i = 0; i < size; i++) {
+            index += unzigzag(readVarint(in));
+            board.setCell(index, getCell(in.get()));
+        }
+    }
+
+    /*
+    misc
+     */
+    private static int getCode(int cell) {
+        if (CellState.isDetonated(cell)) return DETONATED;
+        if (CellState.isUncovered(cell)) return CellState.getMinesAround(cell);
+        return CellState.isFlagged(cell) ? FLAGGED : COVERED;
+    }
+
+    private static int getCell(int code) {
+        switch (code) {
+            case COVERED:
+                return 0;
+            case FLAGGED:
+                return CellState.FLAGGED;
+            case DETONATED:
+                return CellState.MINE | CellState.UNCOVERED | CellState.DETONATED;
+            default:
+                if (code > 8) throw new IllegalArgumentException("invalid tile code " + code);
+                return CellState.UNCOVERED | code;
+        }
+    }
+
+    private static void writeVarint(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) (value & 0x7F | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int readVarint(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("varint longer than " + MAX_VARINT_LENGTH + " bytes");
+    }
+
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
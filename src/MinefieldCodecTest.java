@@ -0,0 +1,88 @@
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class MinefieldCodecTest {
+    private static Minefield newPlayedField() {
+        Minefield field = new Minefield(60, 40, 0.15F, new MinefieldConfig().setSeed(5L));
+        field.init(30, 20);
+        field.uncoverTiles(30, 20);
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(59, 39);
+        return field;
+    }
+
+    private static void assertSameVisibleState(Board expected, Board actual) {
+        assertEquals(expected.getXSize(), actual.getXSize());
+        assertEquals(expected.getYSize(), actual.getYSize());
+        for (int i = 0; i < expected.getNumberOfTiles(); i++) {
+            int cell = expected.getCell(i);
+            int decoded = actual.getCell(i);
+            assertEquals(CellState.isUncovered(cell), CellState.isUncovered(decoded));
+            assertEquals(CellState.isFlagged(cell), CellState.isFlagged(decoded));
+            assertEquals(CellState.isDetonated(cell), CellState.isDetonated(decoded));
+            if (CellState.isDetonated(cell)) {
+                assertTrue(CellState.isMine(decoded));
+            } else if (CellState.isUncovered(cell)) {
+                assertEquals(CellState.getMinesAround(cell), CellState.getMinesAround(decoded));
+            } else {
+                assertFalse(CellState.isMine(decoded));
+            }
+        }
+    }
+
+    @Test
+    public void decodedBoardShowsWhatThePlayerSees() {
+        Minefield field = newPlayedField();
+        field.uncoverTiles(10, 10);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MinefieldCodec.getMaxBoardLength(60, 40));
+        MinefieldCodec.encodeBoard(field.getBoard(), buffer);
+        buffer.flip();
+        assertSameVisibleState(field.getBoard(), MinefieldCodec.decodeBoard(buffer));
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void coveredBoardTakesAFewBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(MinefieldCodec.getMaxBoardLength(4000, 4000));
+        MinefieldCodec.encodeBoard(new ByteBoard(4000, 4000), buffer);
+        assertTrue(buffer.position() < 16);
+    }
+
+    @Test
+    public void appliedDeltasKeepClientBoardInSync() {
+        Minefield field = newPlayedField();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(MinefieldCodec.getMaxBoardLength(60, 40));
+        MinefieldCodec.encodeBoard(field.getBoard(), buffer);
+        buffer.flip();
+        Board client = MinefieldCodec.decodeBoard(buffer);
+        field.addListener(delta -> {
+            buffer.clear();
+            MinefieldCodec.encodeDelta(delta, buffer);
+            buffer.flip();
+            MinefieldCodec.applyDelta(buffer, client);
+            assertFalse(buffer.hasRemaining());
+        });
+        for (int i = 0; i < 200; i++) {
+            if (i % 3 == 0) {
+                field.alterTileFlagged(i * 7 % 60, i * 13 % 40);
+            } else {
+                field.uncoverTiles(i * 11 % 60, i * 17 % 40);
+            }
+        }
+        assertSameVisibleState(field.getBoard(), client);
+    }
+
+    @Test
+    public void cascadeDeltaTakesAboutTwoBytesPerTile() {
+        Minefield field = new Minefield(300, 300, 0F);
+        field.init(150, 150);
+        MinefieldDelta delta = field.uncoverTiles(150, 150);
+        ByteBuffer buffer = ByteBuffer.allocate(MinefieldCodec.getMaxDeltaLength(delta.size()));
+        MinefieldCodec.encodeDelta(delta, buffer);
+        assertTrue(buffer.position() <= 3 * delta.size());
+    }
+}
@@ -0,0 +1,90 @@
+public class MinefieldConfig {
+    private MinePlacer minePlacer = new FisherYatesMinePlacer();
+    private RevealEngine revealEngine = new SequentialRevealEngine();
+    private boolean countMinesAroundInParallel = false;
+    private BoardFactory boardFactory = ByteBoard::new;
+    private RandomSource randomSource;
+    private Long seed;
+    private MinefieldMetrics metrics = MinefieldMetrics.NOOP;
+
+    public MinePlacer getMinePlacer() {
+        return minePlacer;
+    }
+
+    public MinefieldConfig setMinePlacer(MinePlacer minePlacer) {
+        this.minePlacer = minePlacer;
+        return this;
+    }
+
+    public RevealEngine getRevealEngine() {
+        return revealEngine;
+    }
+
+    public MinefieldConfig setRevealEngine(RevealEngine revealEngine) {
+        this.revealEngine = revealEngine;
+        return this;
+    }
+
+    public boolean isCountMinesAroundInParallel() {
+        return countMinesAroundInParallel;
+    }
+
+    public MinefieldConfig setCountMinesAroundInParallel(boolean countMinesAroundInParallel) {
+        this.countMinesAroundInParallel = countMinesAroundInParallel;
+        return this;
+    }
+
+    public BoardFactory getBoardFactory() {
+        return boardFactory;
+    }
+
+    public MinefieldConfig setBoardFactory(BoardFactory boardFactory) {
+        this.boardFactory = boardFactory;
+        return this;
+    }
+
+    /**
+     * @return the source shared by every field built from this config, or {@code null} if each field gets its own
+     * source seeded from {@link #getSeed()}
+     */
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    public MinefieldConfig setRandomSource(RandomSource randomSource) {
+        this.randomSource = randomSource;
+        return this;
+    }
+
+    /**
+     * @return the seed of the fields built from this config, or {@code null} if every field draws a fresh one
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    public MinefieldConfig setSeed(Long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public MinefieldMetrics getMetrics() {
+        return metrics;
+    }
+
+    public MinefieldConfig setMetrics(MinefieldMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public MinefieldConfig copy() {
+        return new MinefieldConfig()
+                .setMinePlacer(minePlacer)
+                .setRevealEngine(revealEngine)
+                .setCountMinesAroundInParallel(countMinesAroundInParallel)
+                .setBoardFactory(boardFactory)
+                .setRandomSource(randomSource)
+                .setSeed(seed)
+                .setMetrics(metrics);
+    }
+}
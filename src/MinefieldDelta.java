@@ -0,0 +1,58 @@
+/**
+ * <p>The tiles a command changed, as flat indices and their new state in the layout of {@link CellState}.</p>
+ * <p>Its size is the number of changed tiles, so a client that applies deltas instead of rescanning
+ * {@link Minefield#getTilesArray()} pays for the size of a cascade, not for the size of the board.</p>
+ */
+public final class MinefieldDelta {
+    public static final MinefieldDelta EMPTY = new MinefieldDelta(1, new int[0], new byte[0]);
+    private final int ySize;
+    private final int[] indices;
+    private final byte[] cells;
+
+    private MinefieldDelta(int ySize, int[] indices, byte[] cells) {
+        this.ySize = ySize;
+        this.indices = indices;
+        this.cells = cells;
+    }
+
+    static MinefieldDelta of(Board board, IntList changed) {
+        if (changed.isEmpty()) return EMPTY;
+        int[] indices = changed.toArray();
+        byte[] cells = new byte[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            cells[i] = (byte) board.getCell(indices[i]);
+        }
+        return new MinefieldDelta(board.getYSize(), indices, cells);
+    }
+
+    static MinefieldDelta of(Board board, int changed) {
+        return new MinefieldDelta(board.getYSize(), new int[] {changed}, new byte[] {(byte) board.getCell(changed)});
+    }
+
+    /*
+    getters
+     */
+    public int size() {
+        return indices.length;
+    }
+
+    public boolean isEmpty() {
+        return indices.length == 0;
+    }
+
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    public int getXPos(int i) {
+        return indices[i] / ySize;
+    }
+
+    public int getYPos(int i) {
+        return indices[i] % ySize;
+    }
+
+    public int getCell(int i) {
+        return cells[i] & 0xFF;
+    }
+}
@@ -0,0 +1,318 @@
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Append-only journal of the calls to a {@link Minefield}.</p>
+ * <p>The file starts with the size, mine percentage and seed of the field and continues with one record of
+ * operation and position per call. Records are collected in a buffer and written in batches. They are forced
+ * to the disk in groups, once {@code groupSize} records are pending or the oldest pending record waited for
+ * {@code maxCommitDelayNanos}, or when {@link #commit()} is called. A daemon thread shared by all journals
+ * commits the records of a journal that stays idle for the delay. If that commit fails, the next call to
+ * {@link #append(byte, int, int)} or {@link #commit()} throws its exception.</p>
+ * <p>A field is rebuilt by {@link #replay(Path, MinefieldConfig)} from the seed and all records, or faster by
+ * {@link #recover(Path, Path, MinefieldConfig)} from a {@link MinefieldSnapshot} and the records written after
+ * it. Both are deterministic, because only {@link Minefield#init(int, int)} makes random decisions and it draws
+ * them from a {@link RandomSource} seeded with the journal's seed.</p>
+ * <p>Appending is synchronized, so the journal of a field shared by a {@link GameSession} records the calls in
+ * the order they were executed.</p>
+ */
+public class MinefieldJournal implements Closeable {
+    public static final byte INIT = 1;
+    public static final byte UNCOVER = 2;
+    public static final byte FLAG = 3;
+    public static final byte CHORD = 4;
+    static final int MAGIC = 0x4D534A4C;
+    static final int VERSION = 1;
+    static final int HEADER_LENGTH = 28;
+    static final int RECORD_LENGTH = 9;
+    private static final int BUFFER_LENGTH = RECORD_LENGTH * 4096;
+    private static final int DEFAULT_GROUP_SIZE = 256;
+    private static final long DEFAULT_MAX_COMMIT_DELAY_NANOS = 5_000_000L;
+    private static final ScheduledThreadPoolExecutor FLUSHER = newFlusher();
+    private final FileChannel channel;
+    private final Header header;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_LENGTH);
+    private int groupSize = DEFAULT_GROUP_SIZE;
+    private long maxCommitDelayNanos = DEFAULT_MAX_COMMIT_DELAY_NANOS;
+    private long position;
+    private long committedPosition;
+    private long firstPendingNanos;
+    private ScheduledFuture<?> scheduledCommit;
+    private IOException scheduledCommitFailure;
+
+    private static class Header {
+        final int xSize;
+        final int ySize;
+        final float minePercentage;
+        final long seed;
+
+        Header(int xSize, int ySize, float minePercentage, long seed) {
+            this.xSize = xSize;
+            this.ySize = ySize;
+            this.minePercentage = minePercentage;
+            this.seed = seed;
+        }
+    }
+
+    private MinefieldJournal(FileChannel channel, Header header, long position) {
+        this.channel = channel;
+        this.header = header;
+        this.position = position;
+        committedPosition = position;
+    }
+
+    /*
+    writing
+     */
+    /**
+     * <p>Creates a journal for {@code field} from its size, mine percentage and {@link Minefield#getSeed()}.</p>
+     * @throws IllegalStateException if a replay would not give the field, e.g. because it is already initialized
+     */
+    public static MinefieldJournal create(Path file, Minefield field) throws IOException {
+        field.checkJournalable(0);
+        return create(file, field.getXSize(), field.getYSize(), field.getMinePercentage(), field.getSeed());
+    }
+
+    public static MinefieldJournal create(Path file, int xSize, int ySize, float minePercentage, long seed)
+            throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+        headerBuffer.putInt(MAGIC).putInt(VERSION).putInt(xSize).putInt(ySize).putFloat(minePercentage).putLong(seed);
+        headerBuffer.flip();
+        while (headerBuffer.hasRemaining()) {
+            channel.write(headerBuffer, headerBuffer.position());
+        }
+        channel.force(true);
+        return new MinefieldJournal(channel, new Header(xSize, ySize, minePercentage, seed), 0);
+    }
+
+    /**
+     * <p>Opens a journal to continue appending to it. A record that was only partly written is dropped.</p>
+     */
+    public static MinefieldJournal open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            Header header = readHeader(channel, file);
+            long records = countRecords(channel);
+            channel.truncate(HEADER_LENGTH + records * RECORD_LENGTH);
+            return new MinefieldJournal(channel, header, records);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public synchronized void append(byte operation, int x, int y) throws IOException {
+        throwScheduledCommitFailure();
+        if (!buffer.hasRemaining()) writeBuffer();
+        buffer.put(operation).putInt(x).putInt(y);
+        if (position++ == committedPosition) {
+            firstPendingNanos = System.nanoTime();
+            scheduledCommit = FLUSHER.schedule(this::scheduledCommit, maxCommitDelayNanos, TimeUnit.NANOSECONDS);
+        }
+        if (position - committedPosition >= groupSize || System.nanoTime() - firstPendingNanos >= maxCommitDelayNanos) {
+            commit();
+        }
+    }
+
+    /**
+     * <p>Writes all pending records and forces them to the disk.</p>
+     */
+    public synchronized void commit() throws IOException {
+        throwScheduledCommitFailure();
+        if (committedPosition == position) return;
+        if (scheduledCommit != null) {
+            scheduledCommit.cancel(false);
+            scheduledCommit = null;
+        }
+        writeBuffer();
+        channel.force(false);
+        committedPosition = position;
+    }
+
+    public MinefieldJournal setGroupSize(int groupSize) {
+        this.groupSize = groupSize;
+        return this;
+    }
+
+    public MinefieldJournal setMaxCommitDelayNanos(long maxCommitDelayNanos) {
+        this.maxCommitDelayNanos = maxCommitDelayNanos;
+        return this;
+    }
+
+    /**
+     * @return the number of records appended to the journal
+     */
+    public synchronized long getPosition() {
+        return position;
+    }
+
+    public synchronized long getCommittedPosition() {
+        return committedPosition;
+    }
+
+    public long getSeed() {
+        return header.seed;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            commit();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private synchronized void scheduledCommit() {
+        if (!channel.isOpen()) return;
+        try {
+            commit();
+        } catch (IOException e) {
+            scheduledCommitFailure = e;
+        }
+    }
+
+    private void throwScheduledCommitFailure() throws IOException {
+        IOException failure = scheduledCommitFailure;
+        if (failure == null) return;
+        scheduledCommitFailure = null;
+        throw failure;
+    }
+
+    private static ScheduledThreadPoolExecutor newFlusher() {
+        ScheduledThreadPoolExecutor flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "minefield-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // most commits are done by append, so their scheduled ones are cancelled long before they are due
+        flusher.setRemoveOnCancelPolicy(true);
+        return flusher;
+    }
+
+    private void writeBuffer() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, channel.size());
+        }
+        buffer.clear();
+    }
+
+    /*
+    reading
+     */
+    /**
+     * <p>Builds the field from the seed and replays every record of the journal.</p>
+     */
+    public static Minefield replay(Path file, MinefieldConfig config) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, file);
+            Minefield field = new Minefield(header.xSize, header.ySize, header.minePercentage,
+                    config.copy().setRandomSource(null).setSeed(header.seed));
+            replayRecords(channel, 0, field);
+            return field;
+        }
+    }
+
+    /**
+     * <p>Loads the snapshot and replays the records written after it was taken.</p>
+     */
+    public static Minefield recover(Path snapshot, Path file, MinefieldConfig config) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            Header header = readHeader(channel, file);
+            Minefield field = MinefieldSnapshot.load(snapshot,
+                    config.copy().setRandomSource(null).setSeed(header.seed));
+            if (field.getXSize() != header.xSize || field.getYSize() != header.ySize) {
+                throw new IOException("snapshot " + snapshot + " does not belong to journal " + file);
+            }
+            replayRecords(channel, MinefieldSnapshot.getJournalPosition(snapshot), field);
+            return field;
+        }
+    }
+
+    private static Header readHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
+        while (headerBuffer.hasRemaining()) {
+            if (channel.read(headerBuffer, headerBuffer.position()) < 0) {
+                throw new IOException("truncated header in " + file);
+            }
+        }
+        headerBuffer.flip();
+        if (headerBuffer.getInt() != MAGIC) throw new IOException(file + " is no minefield journal");
+        int version = headerBuffer.getInt();
+        if (version != VERSION) throw new IOException("unsupported journal version " + version);
+        return new Header(headerBuffer.getInt(), headerBuffer.getInt(), headerBuffer.getFloat(), headerBuffer.getLong());
+    }
+
+    private static long countRecords(FileChannel channel) throws IOException {
+        return (channel.size() - HEADER_LENGTH) / RECORD_LENGTH;
+    }
+
+    /**
+     * <p>Runs of uncovers are applied as one batch, which uncovers the same tiles as uncovering them one by one.</p>
+     */
+    private static void replayRecords(FileChannel channel, long fromPosition, Minefield field) throws IOException {
+        long records = countRecords(channel);
+        ByteBuffer recordBuffer = ByteBuffer.allocateDirect(BUFFER_LENGTH);
+        IntList uncovers = new IntList();
+        long offset = HEADER_LENGTH + fromPosition * RECORD_LENGTH;
+        long end = HEADER_LENGTH + records * RECORD_LENGTH;
+        while (offset < end) {
+            recordBuffer.clear();
+            recordBuffer.limit((int) Math.min(BUFFER_LENGTH, end - offset));
+            while (recordBuffer.hasRemaining()) {
+                if (channel.read(recordBuffer, offset + recordBuffer.position()) < 0) {
+                    throw new IOException("journal shrank while replaying");
+                }
+            }
+            recordBuffer.flip();
+            while (recordBuffer.hasRemaining()) {
+                byte operation = recordBuffer.get();
+                int x = recordBuffer.getInt();
+                int y = recordBuffer.getInt();
+                if (operation == UNCOVER) {
+                    uncovers.add(x * field.getYSize() + y);
+                    continue;
+                }
+                applyUncovers(field, uncovers);
+                applyRecord(field, operation, x, y);
+            }
+            offset += recordBuffer.limit();
+        }
+        applyUncovers(field, uncovers);
+    }
+
+    private static void applyUncovers(Minefield field, IntList uncovers) {
+        if (uncovers.isEmpty()) return;
+        field.applyBatch(UNCOVER, uncovers.toArray());
+        uncovers.clear();
+    }
+
+    private static void applyRecord(Minefield field, byte operation, int x, int y) throws IOException {
+        switch (operation) {
+            case INIT:
+                field.init(x, y);
+                break;
+            case UNCOVER:
+                field.uncoverTiles(x, y);
+                break;
+            case FLAG:
+                field.alterTileFlagged(x, y);
+                break;
+            case CHORD:
+                field.chord(x, y);
+                break;
+            default:
+                throw new IOException("unknown journal operation " + operation);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class MinefieldJournalTest {
+    private static final long SEED = 1234;
+
+    private static Minefield newJournaledField(Path file) throws IOException {
+        Minefield field = new Minefield(30, 20, 0.15F, new MinefieldConfig().setSeed(SEED));
+        field.setJournal(MinefieldJournal.create(file, 30, 20, 0.15F, SEED));
+        return field;
+    }
+
+    private static void playFirstMoves(Minefield field) {
+        field.alterTileFlagged(0, 0);
+        field.init(15, 10);
+        field.uncoverTiles(15, 10);
+    }
+
+    private static void playLastMoves(Minefield field) {
+        field.alterTileFlagged(0, 0);
+        field.uncoverTiles(0, 0);
+        field.alterTileFlagged(29, 19);
+        field.uncoverTiles(3, 17);
+        field.chord(15, 10);
+    }
+
+    private static void assertSameTiles(Minefield expected, Minefield actual) {
+        Tile[][] expectedTiles = expected.getTilesArray();
+        Tile[][] actualTiles = actual.getTilesArray();
+        for (int x = 0; x < expected.getXSize(); x++) {
+            for (int y = 0; y < expected.getYSize(); y++) {
+                assertEquals(expectedTiles[x][y].isMine(), actualTiles[x][y].isMine());
+                assertEquals(expectedTiles[x][y].getMinesAround(), actualTiles[x][y].getMinesAround());
+                assertEquals(expectedTiles[x][y].isUncovered(), actualTiles[x][y].isUncovered());
+                assertEquals(expectedTiles[x][y].isFlagged(), actualTiles[x][y].isFlagged());
+                assertEquals(expectedTiles[x][y].isDetonated(), actualTiles[x][y].isDetonated());
+            }
+        }
+    }
+
+    @Test
+    public void journalCountsAppendedRecords() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            playFirstMoves(field);
+            assertEquals(3, field.getJournal().getPosition());
+            field.getJournal().close();
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void replayedMinefieldEqualsJournaledMinefield() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            playFirstMoves(field);
+            playLastMoves(field);
+            field.getJournal().close();
+            assertSameTiles(field, MinefieldJournal.replay(file, new MinefieldConfig()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void replayedBatchesEqualJournaledMinefield() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            playFirstMoves(field);
+            field.applyBatch(MinefieldJournal.FLAG, new int[] {0, 599, 0, 42});
+            field.applyBatch(MinefieldJournal.UNCOVER, new int[] {1, 17, 300, 17, 599, 460});
+            field.applyBatch(MinefieldJournal.CHORD, new int[] {15 * 20 + 10, 310, 311});
+            field.uncoverTiles(29, 0);
+            field.getJournal().close();
+            assertSameTiles(field, MinefieldJournal.replay(file, new MinefieldConfig()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void recoveredMinefieldEqualsJournaledMinefield() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        Path snapshot = Files.createTempFile("snapshot", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            playFirstMoves(field);
+            MinefieldSnapshot.save(field, snapshot);
+            playLastMoves(field);
+            field.getJournal().close();
+            assertEquals(3, MinefieldSnapshot.getJournalPosition(snapshot));
+            assertSameTiles(field, MinefieldJournal.recover(snapshot, file, new MinefieldConfig()));
+        } finally {
+            Files.delete(file);
+            Files.delete(snapshot);
+        }
+    }
+
+    @Test
+    public void recoveryFromSnapshotBeforeInitializationPlacesSameMines() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        Path snapshot = Files.createTempFile("snapshot", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            field.alterTileFlagged(1, 1);
+            MinefieldSnapshot.save(field, snapshot);
+            playFirstMoves(field);
+            field.getJournal().close();
+            assertSameTiles(field, MinefieldJournal.recover(snapshot, file, new MinefieldConfig()));
+        } finally {
+            Files.delete(file);
+            Files.delete(snapshot);
+        }
+    }
+
+    @Test
+    public void openingJournalDropsPartlyWrittenRecord() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try {
+            Minefield field = newJournaledField(file);
+            playFirstMoves(field);
+            field.getJournal().close();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(new byte[] {MinefieldJournal.UNCOVER, 0, 0}));
+            }
+            Minefield replayed = MinefieldJournal.replay(file, new MinefieldConfig());
+            assertSameTiles(field, replayed);
+            try (MinefieldJournal journal = MinefieldJournal.open(file)) {
+                assertEquals(3, journal.getPosition());
+                replayed.setJournal(journal);
+                playLastMoves(replayed);
+            }
+            playLastMoves(field);
+            assertSameTiles(field, MinefieldJournal.replay(file, new MinefieldConfig()));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void journalCommitsInGroups() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try (MinefieldJournal journal = MinefieldJournal.create(file, 5, 5, 0F, SEED)
+                .setGroupSize(3).setMaxCommitDelayNanos(Long.MAX_VALUE)) {
+            journal.append(MinefieldJournal.FLAG, 0, 0);
+            journal.append(MinefieldJournal.FLAG, 0, 1);
+            assertEquals(0, journal.getCommittedPosition());
+            journal.append(MinefieldJournal.FLAG, 0, 2);
+            assertEquals(3, journal.getCommittedPosition());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void idleJournalCommitsAfterTheDelay() throws IOException, InterruptedException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try (MinefieldJournal journal = MinefieldJournal.create(file, 5, 5, 0F, SEED)
+                .setGroupSize(Integer.MAX_VALUE).setMaxCommitDelayNanos(1_000_000L)) {
+            journal.append(MinefieldJournal.FLAG, 0, 0);
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (journal.getCommittedPosition() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(1, journal.getCommittedPosition());
+            assertEquals(MinefieldJournal.HEADER_LENGTH + MinefieldJournal.RECORD_LENGTH, Files.size(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void fieldsWithACustomRandomSourceCannotBeJournaled() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try (MinefieldJournal journal = MinefieldJournal.create(file, 30, 20, 0.15F, SEED)) {
+            Minefield field = new Minefield(30, 20, 0.15F,
+                    new MinefieldConfig().setSeed(SEED).setRandomSource(RandomSource.seeded(SEED + 1)));
+            assertThrows(IllegalStateException.class, () -> field.setJournal(journal));
+            assertThrows(IllegalStateException.class, () -> MinefieldJournal.create(file, field));
+            assertNull(field.getJournal());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void initializedFieldsCannotBeJournaledFromTheStart() throws IOException {
+        Path file = Files.createTempFile("journal", ".bin");
+        try (MinefieldJournal journal = MinefieldJournal.create(file, 30, 20, 0.15F, SEED)) {
+            Minefield field = new Minefield(30, 20, 0.15F, new MinefieldConfig().setSeed(SEED));
+            field.init(15, 10);
+            assertThrows(IllegalStateException.class, () -> field.setJournal(journal));
+            assertThrows(IllegalStateException.class, () -> MinefieldJournal.create(file, field));
+            assertNull(field.getJournal());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+/**
+ * <p>Receives the changes of a {@link Minefield}, e.g. to redraw or send only the changed tiles.</p>
+ * <p>Called by the thread that executed the command, after the change and only if tiles changed.</p>
+ */
+@FunctionalInterface
+public interface MinefieldListener {
+    void onChange(MinefieldDelta delta);
+}
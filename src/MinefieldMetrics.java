@@ -0,0 +1,28 @@
+/**
+ * <p>Receives measurements of the hot paths of a {@link Minefield}, e.g. to export them to a monitoring system.</p>
+ * <p>Called by the thread that executed the command. A field configured with {@link #NOOP} neither reads the
+ * clock nor calls the metrics, so measuring costs nothing unless it is enabled.</p>
+ */
+public interface MinefieldMetrics {
+    MinefieldMetrics NOOP = new MinefieldMetrics() {
+    };
+
+    /**
+     * @param nanos the time taken to place the mines and count the mines around the tiles
+     */
+    default void initialized(long nanos, int minesPlaced) {
+    }
+
+    /**
+     * <p>Called for every {@link Minefield#uncoverTiles(int, int)} and {@link Minefield#chord(int, int)}.</p>
+     * @param uncoveredTiles the size of the cascade, {@code 0} if nothing was uncovered
+     */
+    default void revealed(int uncoveredTiles, long nanos) {
+    }
+
+    default void flagToggled(boolean flagged) {
+    }
+
+    default void minesDetonated(int mines) {
+    }
+}
@@ -0,0 +1,75 @@
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class MinefieldMetricsTest {
+    private static Minefield newFieldWithMineInCorner(MinefieldMetrics metrics) {
+        Board board = new ByteBoard(5, 5);
+        board.placeMines(new int[] {0});
+        board.countMinesAround(false);
+        return new Minefield(board, 0.04F, new MinefieldConfig().setMetrics(metrics));
+    }
+
+    @Test
+    public void histogramsRecordInitAndCascades() {
+        HistogramMinefieldMetrics metrics = new HistogramMinefieldMetrics();
+        Minefield field = new Minefield(20, 20, 0.1F, new MinefieldConfig().setSeed(23L).setMetrics(metrics));
+        field.init(10, 10);
+        int uncovered = field.uncoverTiles(10, 10).size();
+        field.uncoverTiles(10, 10);
+        assertEquals(1, metrics.getInitNanos().getCount());
+        assertEquals(40, metrics.getMinesPlaced());
+        assertEquals(2, metrics.getRevealNanos().getCount());
+        assertEquals(2, metrics.getCascadeSizes().getCount());
+        assertEquals(uncovered, metrics.getCascadeSizes().getMax());
+    }
+
+    @Test
+    public void countersRecordFlagsAndDetonations() {
+        HistogramMinefieldMetrics metrics = new HistogramMinefieldMetrics();
+        Minefield field = newFieldWithMineInCorner(metrics);
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(0, 1);
+        field.uncoverTiles(0, 0);
+        assertEquals(2, metrics.getFlagsSet());
+        assertEquals(1, metrics.getFlagsCleared());
+        assertEquals(1, metrics.getDetonatedMines());
+    }
+
+    @Test
+    public void metricsAreOffByDefaultAndKeptByCopies() {
+        assertSame(MinefieldMetrics.NOOP, new MinefieldConfig().getMetrics());
+        MinefieldMetrics metrics = new HistogramMinefieldMetrics();
+        assertSame(metrics, new MinefieldConfig().setMetrics(metrics).copy().getMetrics());
+    }
+
+    @Test
+    public void flightRecorderReceivesAllButFlagEventsByDefault() throws IOException {
+        Path file = Files.createTempFile("minefield", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.start();
+            Minefield field = newFieldWithMineInCorner(new JfrMinefieldMetrics());
+            field.uncoverTiles(1, 1);
+            field.uncoverTiles(0, 0);
+            field.alterTileFlagged(4, 4);
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            assertEquals(3, events.size());
+            assertEquals(1, events.stream().filter(e -> e.getEventType().getName().equals("minefield.Detonation"))
+                    .mapToInt(e -> e.getInt("mines")).sum());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * <p>Binary snapshot of a {@link Minefield}.</p>
+ * <p>The file holds a header of magic number, version, size, mine percentage and the position of the field's
+ * {@link MinefieldJournal} when the snapshot was taken and the numbers of mines, uncovered safe, flagged and
+ * detonated tiles, followed by one byte per tile in the layout of {@link CellState}. Loading maps the tiles
+ * privately into memory instead of parsing them and takes the numbers from the header, so a loaded field starts
+ * in milliseconds whatever its size and changes to it never reach the file.</p>
+ */
+public final class MinefieldSnapshot {
+    static final int MAGIC = 0x4D535750;
+    static final int VERSION = 3;
+    static final int HEADER_LENGTH = 44;
+
+    private MinefieldSnapshot() {
+    }
+
+    public static void save(Minefield field, Path file) throws IOException {
+        Board board = field.getBoard();
+        MinefieldJournal journal = field.getJournal();
+        if (journal != null) journal.commit();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+            header.putInt(MAGIC).putInt(VERSION).putInt(board.getXSize()).putInt(board.getYSize())
+                    .putFloat(field.getMinePercentage()).putLong(journal == null ? 0 : journal.getPosition())
+                    .putInt(field.getMines()).putInt(field.getUncoveredSafeTiles()).putInt(field.getFlaggedTiles())
+                    .putInt(field.getDetonatedMines()).flip();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+            MappedByteBuffer[] segments = map(channel, FileChannel.MapMode.READ_WRITE, board.getNumberOfTiles());
+            int index = 0;
+            for (MappedByteBuffer segment : segments) {
+                while (segment.hasRemaining()) {
+                    segment.put((byte) board.getCell(index++));
+                }
+                segment.force();
+            }
+        }
+    }
+
+    public static Minefield load(Path file) throws IOException {
+        return load(file, new MinefieldConfig());
+    }
+
+    public static Minefield load(Path file, MinefieldConfig config) throws IOException {
+        // private mappings need a writable channel, although nothing is ever written to the file
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer header = readHeader(channel, file);
+            int xSize = header.getInt();
+            int ySize = header.getInt();
+            float minePercentage = header.getFloat();
+            header.getLong();
+            long numberOfTiles = (long) xSize * ySize;
+            if (xSize < 0 || ySize < 0 || channel.size() != HEADER_LENGTH + numberOfTiles) {
+                throw new IOException("size of " + file + " does not match a field of " + xSize + "x" + ySize);
+            }
+            MappedByteBuffer[] segments = map(channel, FileChannel.MapMode.PRIVATE, (int) numberOfTiles);
+            return new Minefield(new MappedBoard(xSize, ySize, segments), minePercentage, config, header.getInt(),
+                    header.getInt(), header.getInt(), header.getInt());
+        }
+    }
+
+    /**
+     * @return the number of journal records the snapshot contains
+     */
+    public static long getJournalPosition(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readHeader(channel, file).getLong(20);
+        }
+    }
+
+    private static ByteBuffer readHeader(FileChannel channel, Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) throw new IOException("truncated header in " + file);
+        }
+        header.flip();
+        if (header.getInt() != MAGIC) throw new IOException(file + " is no minefield snapshot");
+        int version = header.getInt();
+        if (version != VERSION) throw new IOException("unsupported snapshot version " + version);
+        return header;
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, FileChannel.MapMode mode, int numberOfTiles)
+            throws IOException {
+        int segmentLength = 1 << MappedBoard.SEGMENT_BITS;
+        MappedByteBuffer[] segments = new MappedByteBuffer[(int) (((long) numberOfTiles + segmentLength - 1) / segmentLength)];
+        for (int i = 0; i < segments.length; i++) {
+            long start = (long) i * segmentLength;
+            segments[i] = channel.map(mode, HEADER_LENGTH + start, Math.min(segmentLength, numberOfTiles - start));
+        }
+        return segments;
+    }
+}
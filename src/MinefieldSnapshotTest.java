@@ -0,0 +1,138 @@
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class MinefieldSnapshotTest {
+    private static void assertSameTiles(Minefield expected, Minefield actual) {
+        assertEquals(expected.getXSize(), actual.getXSize());
+        assertEquals(expected.getYSize(), actual.getYSize());
+        Tile[][] expectedTiles = expected.getTilesArray();
+        Tile[][] actualTiles = actual.getTilesArray();
+        for (int x = 0; x < expected.getXSize(); x++) {
+            for (int y = 0; y < expected.getYSize(); y++) {
+                assertEquals(expectedTiles[x][y].isMine(), actualTiles[x][y].isMine());
+                assertEquals(expectedTiles[x][y].getMinesAround(), actualTiles[x][y].getMinesAround());
+                assertEquals(expectedTiles[x][y].isUncovered(), actualTiles[x][y].isUncovered());
+                assertEquals(expectedTiles[x][y].isFlagged(), actualTiles[x][y].isFlagged());
+                assertEquals(expectedTiles[x][y].isDetonated(), actualTiles[x][y].isDetonated());
+            }
+        }
+    }
+
+    @Test
+    public void loadedMinefieldEqualsSavedMinefield() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try {
+            Minefield field = new Minefield(40, 30, 0.15F);
+            field.alterTileFlagged(39, 0);
+            field.init(20, 15);
+            field.uncoverTiles(20, 15);
+            MinefieldSnapshot.save(field, file);
+            Minefield loaded = MinefieldSnapshot.load(file);
+            assertEquals(field.getMinePercentage(), loaded.getMinePercentage());
+            assertSameTiles(field, loaded);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void loadedMinefieldPlaysLikeSavedMinefield() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try {
+            Minefield field = new Minefield(40, 30, 0.15F);
+            field.init(20, 15);
+            MinefieldSnapshot.save(field, file);
+            Minefield loaded = MinefieldSnapshot.load(file);
+            for (Minefield f : new Minefield[] {field, loaded}) {
+                f.alterTileFlagged(0, 0);
+                f.uncoverTiles(20, 15);
+                f.uncoverTiles(39, 29);
+                f.alterTileFlagged(0, 0);
+                f.uncoverTiles(0, 0);
+            }
+            assertSameTiles(field, loaded);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void loadedMinefieldKeepsCountersAndChordsWithSavedFlags() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try {
+            Minefield field = new Minefield(40, 30, 0.15F, new MinefieldConfig().setSeed(18L));
+            field.init(20, 15);
+            field.uncoverTiles(20, 15);
+            int chorded = flagMinesAroundANumber(field);
+            MinefieldSnapshot.save(field, file);
+            Minefield loaded = MinefieldSnapshot.load(file);
+            assertEquals(field.getStatus(), loaded.getStatus());
+            assertEquals(field.getRemainingMines(), loaded.getRemainingMines());
+            assertEquals(field.getUncoveredSafeTiles(), loaded.getUncoveredSafeTiles());
+            assertEquals(field.getFlaggedTiles(), loaded.getFlaggedTiles());
+            assertEquals(field.getFrontierSize(), loaded.getFrontierSize());
+            for (Minefield f : new Minefield[] {field, loaded}) {
+                assertTrue(f.chord(chorded / 30, chorded % 30).size() > 0);
+            }
+            assertSameTiles(field, loaded);
+            assertEquals(field.getFrontierSize(), loaded.getFrontierSize());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    /**
+     * @return an uncovered tile with covered tiles around it, whose mines are now all flagged
+     */
+    private static int flagMinesAroundANumber(Minefield field) {
+        Board board = field.getBoard();
+        for (int index = 0; index < board.getNumberOfTiles(); index++) {
+            int cell = board.getCell(index);
+            if (!CellState.isUncovered(cell) || CellState.getMinesAround(cell) == 0) continue;
+            IntList mines = new IntList();
+            int covered = 0;
+            for (int x = Math.max(index / 30 - 1, 0); x <= Math.min(index / 30 + 1, 39); x++) {
+                for (int y = Math.max(index % 30 - 1, 0); y <= Math.min(index % 30 + 1, 29); y++) {
+                    int around = board.getCell(x * 30 + y);
+                    if (CellState.isMine(around)) mines.add(x * 30 + y);
+                    else if (!CellState.isUncovered(around)) covered++;
+                }
+            }
+            if (covered == 0) continue;
+            for (int i = 0; i < mines.size(); i++) {
+                field.alterTileFlagged(mines.get(i) / 30, mines.get(i) % 30);
+            }
+            return index;
+        }
+        throw new AssertionError("no uncovered number next to a covered safe tile");
+    }
+
+    @Test
+    public void changesToLoadedMinefieldDoNotChangeTheSnapshot() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try {
+            MinefieldSnapshot.save(new Minefield(10, 10, 0F), file);
+            MinefieldSnapshot.load(file).uncoverTiles(0, 0);
+            assertFalse(MinefieldSnapshot.load(file).getTilesArray()[5][5].isUncovered());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void cannotLoadOtherFiles() throws IOException {
+        Path file = Files.createTempFile("snapshot", ".bin");
+        try {
+            Files.write(file, new byte[100]);
+            assertThrows(IOException.class, () -> MinefieldSnapshot.load(file));
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
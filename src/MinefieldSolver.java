@@ -0,0 +1,367 @@
+/**
+ * <p>Clears a board by logic alone, the way a player who never guesses would.</p>
+ * <p>The solver either reads the tiles it decides to uncover from a board with mines, to check whether the board
+ * can be solved, or has them uncovered by a {@link TileRevealer}, which reports back what became visible through
+ * {@link #learn(int, int)}. Either way it only looks at the numbers of tiles it has uncovered. Every uncovered number is a constraint on
+ * its covered neighbours, and a constraint is checked again whenever one of its neighbours becomes known, so the
+ * work grows with the changes instead of with the board. A constraint with as many mines as flagged neighbours
+ * marks the rest safe, one with as many missing mines as covered neighbours marks them all as mines. When no
+ * single constraint helps any more, the constraints that changed since they were last compared are compared with
+ * the constraints they overlap, and finally the total number of mines is used. Where logic ends,
+ * {@link #getSafestTile()} estimates which tile is least likely a mine.</p>
+ */
+public class MinefieldSolver {
+    /**
+     * <p>Uncovers a tile the solver decided to uncover and passes every tile that became visible to
+     * {@link #learn(int, int)}.</p>
+     */
+    @FunctionalInterface
+    public interface TileRevealer {
+        void reveal(int index);
+    }
+
+    private static final byte UNKNOWN = 0;
+    private static final byte SAFE = 1;
+    private static final byte MINE = 2;
+    private static final int WINDOW_REACH = 3;
+    private static final int WINDOW_SIZE = 2 * WINDOW_REACH + 1;
+    private static final long[] NEIGHBOURHOODS = newNeighbourhoods();
+    private final Board board;
+    private final TileRevealer revealer;
+    private final int xSize;
+    private final int ySize;
+    private final int numberOfTiles;
+    private final int mines;
+    private final byte[] states;
+    private final byte[] unknownAround;
+    private final byte[] missingMines;
+    private final boolean[] queued;
+    private final boolean[] pairQueued;
+    private final IntList queue = new IntList();
+    private final IntList pairQueue = new IntList();
+    private final int[] unknown = new int[8];
+    private int knownSafeTiles;
+    private int knownMines;
+    private boolean detonated;
+
+    /**
+     * @param board a board with mines and the numbers of mines around its tiles
+     */
+    public MinefieldSolver(Board board, int mines) {
+        this(board.getXSize(), board.getYSize(), mines, board, null);
+    }
+
+    public MinefieldSolver(int xSize, int ySize, int mines, TileRevealer revealer) {
+        this(xSize, ySize, mines, null, revealer);
+    }
+
+    private MinefieldSolver(int xSize, int ySize, int mines, Board board, TileRevealer revealer) {
+        this.board = board;
+        this.revealer = revealer;
+        this.mines = mines;
+        this.xSize = xSize;
+        this.ySize = ySize;
+        numberOfTiles = xSize * ySize;
+        states = new byte[numberOfTiles];
+        unknownAround = new byte[numberOfTiles];
+        missingMines = new byte[numberOfTiles];
+        for (int x = 0; x < xSize; x++) {
+            int rows = Math.min(x + 1, xSize - 1) - Math.max(x - 1, 0) + 1;
+            for (int y = 0; y < ySize; y++) {
+                int columns = Math.min(y + 1, ySize - 1) - Math.max(y - 1, 0) + 1;
+                unknownAround[x * ySize + y] = (byte) (rows * columns - 1);
+            }
+        }
+        queued = new boolean[numberOfTiles];
+        pairQueued = new boolean[numberOfTiles];
+    }
+
+    /**
+     * @return whether every tile without a mine can be uncovered without guessing after clicking {@code start}
+     */
+    public boolean solve(int start) {
+        if (board != null && CellState.isMine(board.getCell(start))) return false;
+        uncover(start);
+        return propagate();
+    }
+
+    /**
+     * <p>Uncovers every tile that logic proves safe.</p>
+     * @return whether every tile without a mine is uncovered
+     */
+    public boolean propagate() {
+        while (!detonated) {
+            while (!queue.isEmpty() && !detonated) {
+                int index = queue.removeLast();
+                queued[index] = false;
+                applySingleConstraint(index);
+            }
+            if (isSolved() || detonated) break;
+            if (!applyConstraintPairs() && !applyMineCount()) break;
+        }
+        return isSolved();
+    }
+
+    /**
+     * <p>Learns the visible state of a tile, e.g. from a {@link MinefieldDelta}.</p>
+     */
+    public void learn(int index, int cell) {
+        if (CellState.isDetonated(cell)) {
+            detonated = true;
+            markMine(index);
+        } else if (CellState.isUncovered(cell) && states[index] == UNKNOWN) {
+            states[index] = SAFE;
+            knownSafeTiles++;
+            missingMines[index] += (byte) CellState.getMinesAround(cell);
+            enqueue(index);
+            updateNeighbours(index, false);
+        }
+    }
+
+    /**
+     * <p>Uncovers a tile, e.g. one chosen by {@link #getSafestTile()}.</p>
+     */
+    public void uncover(int index) {
+        markSafe(index);
+    }
+
+    public boolean isSolved() {
+        return knownSafeTiles == numberOfTiles - mines;
+    }
+
+    /**
+     * <p>Estimates the chance of a mine for every unknown tile and returns the lowest. A tile next to uncovered
+     * numbers gets the highest share of missing mines over covered neighbours among them, any other tile the
+     * density of the mines not yet found.</p>
+     * @return the unknown tile least likely to be a mine, or {@code -1} if no tile is unknown
+     */
+    public int getSafestTile() {
+        int unknownTiles = numberOfTiles - knownSafeTiles - knownMines;
+        if (unknownTiles == 0) return -1;
+        double density = (double) (mines - knownMines) / unknownTiles;
+        int safestTile = -1;
+        double lowestProbability = Double.MAX_VALUE;
+        for (int index = 0; index < numberOfTiles; index++) {
+            if (states[index] != UNKNOWN) continue;
+            double probability = getMineProbability(index, density);
+            if (probability < lowestProbability) {
+                lowestProbability = probability;
+                safestTile = index;
+            }
+        }
+        return safestTile;
+    }
+
+    /**
+     * @return whether a tile the solver uncovered was a mine, which only happens after guessing
+     */
+    public boolean isDetonated() {
+        return detonated;
+    }
+
+    /*
+    rules
+     */
+    private void applySingleConstraint(int index) {
+        int unknowns = unknownAround[index];
+        int missing = missingMines[index];
+        if (unknowns == 0 || (missing != 0 && missing != unknowns)) return;
+        collectUnknown(index, unknown);
+        for (int i = 0; i < unknowns; i++) {
+            if (missing == 0) {
+                markSafe(unknown[i]);
+            } else {
+                markMine(unknown[i]);
+            }
+        }
+    }
+
+    /**
+     * <p>For two constraints A and B, the mines in B but not in A are at least the missing mines of B minus what
+     * fits into the shared tiles, and at most the missing mines of B minus what A has to place in the shared
+     * tiles. If that decides all of them, they are marked.</p>
+     */
+    private boolean applyConstraintPairs() {
+        while (!pairQueue.isEmpty()) {
+            int index = pairQueue.removeLast();
+            pairQueued[index] = false;
+            if (states[index] == SAFE && applyConstraintPairs(index)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * <p>Compares the constraint of {@code a} with every overlapping constraint, in both directions.</p>
+     * <p>The unknown tiles within three tiles of {@code a} are collected into one bitmap of the 7x7 window
+     * around it, so the unknown neighbours of every constraint in reach are a mask of that bitmap and the
+     * tiles two constraints share are counted with one {@code AND}.</p>
+     */
+    private boolean applyConstraintPairs(int a) {
+        if (unknownAround[a] == 0) return false;
+        int xA = a / ySize;
+        int yA = a % ySize;
+        long window = 0;
+        for (int x = Math.max(xA - WINDOW_REACH, 0); x <= Math.min(xA + WINDOW_REACH, xSize - 1); x++) {
+            for (int y = Math.max(yA - WINDOW_REACH, 0); y <= Math.min(yA + WINDOW_REACH, ySize - 1); y++) {
+                if (states[x * ySize + y] == UNKNOWN) window |= 1L << getWindowBit(x - xA, y - yA);
+            }
+        }
+        long unknownsA = window & NEIGHBOURHOODS[getWindowBit(0, 0)];
+        int missingA = missingMines[a];
+        for (int x = Math.max(xA - 2, 0); x <= Math.min(xA + 2, xSize - 1); x++) {
+            for (int y = Math.max(yA - 2, 0); y <= Math.min(yA + 2, ySize - 1); y++) {
+                int b = x * ySize + y;
+                if (b == a || states[b] != SAFE || unknownAround[b] == 0) continue;
+                long unknownsB = window & NEIGHBOURHOODS[getWindowBit(x - xA, y - yA)];
+                if ((unknownsA & unknownsB) == 0) continue;
+                int missingB = missingMines[b];
+                if (applyConstraintPair(unknownsB, missingB, unknownsA, missingA, xA, yA)
+                        || applyConstraintPair(unknownsA, missingA, unknownsB, missingB, xA, yA)) {
+                    // the other pairs of a are compared again with the next pass
+                    enqueuePair(a);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean applyConstraintPair(long unknownsB, int missingB, long unknownsA, int missingA, int xA, int yA) {
+        long onlyB = unknownsB & ~unknownsA;
+        if (onlyB == 0) return false;
+        int shared = Long.bitCount(unknownsA & unknownsB);
+        int onlyA = Long.bitCount(unknownsA) - shared;
+        int minMinesOnlyB = missingB - Math.min(missingA, shared);
+        int maxMinesOnlyB = missingB - Math.max(missingA - onlyA, 0);
+        if (minMinesOnlyB == Long.bitCount(onlyB)) {
+            markWindow(onlyB, xA, yA, MINE);
+            return true;
+        } else if (maxMinesOnlyB == 0) {
+            markWindow(onlyB, xA, yA, SAFE);
+            return true;
+        }
+        return false;
+    }
+
+    private boolean applyMineCount() {
+        if (knownMines != mines) return false;
+        for (int index = 0; index < numberOfTiles; index++) {
+            if (states[index] == UNKNOWN) markSafe(index);
+        }
+        return true;
+    }
+
+    /*
+    knowledge
+     */
+    private void markSafe(int index) {
+        if (states[index] != UNKNOWN) return;
+        if (board == null) {
+            revealer.reveal(index);
+            if (states[index] == UNKNOWN) throw new IllegalStateException("tile " + index + " was not revealed");
+            return;
+        }
+        int cell = board.getCell(index);
+        if (CellState.isMine(cell)) throw new IllegalStateException("deduced a mine at " + index + " to be safe");
+        learn(index, cell | CellState.UNCOVERED);
+    }
+
+    private void markMine(int index) {
+        if (states[index] != UNKNOWN) return;
+        states[index] = MINE;
+        knownMines++;
+        updateNeighbours(index, true);
+    }
+
+    /**
+     * <p>Updates the counts of the neighbours of a tile that became known and queues their constraints.</p>
+     */
+    private void updateNeighbours(int index, boolean mine) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                int around = x * ySize + y;
+                if (around == index) continue;
+                unknownAround[around]--;
+                if (mine) missingMines[around]--;
+                if (states[around] == SAFE) enqueue(around);
+            }
+        }
+    }
+
+    private void enqueue(int index) {
+        enqueuePair(index);
+        if (queued[index]) return;
+        queued[index] = true;
+        queue.add(index);
+    }
+
+    private void enqueuePair(int index) {
+        if (pairQueued[index]) return;
+        pairQueued[index] = true;
+        pairQueue.add(index);
+    }
+
+    /*
+    misc
+     */
+    private double getMineProbability(int index, double density) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        double probability = -1;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                int around = x * ySize + y;
+                if (states[around] != SAFE) continue;
+                probability = Math.max(probability, (double) missingMines[around] / unknownAround[around]);
+            }
+        }
+        return probability < 0 ? density : probability;
+    }
+
+    private int collectUnknown(int index, int[] target) {
+        int xPos = index / ySize;
+        int yPos = index % ySize;
+        int unknowns = 0;
+        for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+            for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                int around = x * ySize + y;
+                if (states[around] == UNKNOWN) target[unknowns++] = around;
+            }
+        }
+        return unknowns;
+    }
+
+    private void markWindow(long bits, int xA, int yA, byte state) {
+        for (; bits != 0; bits &= bits - 1) {
+            int bit = Long.numberOfTrailingZeros(bits);
+            int index = (xA + bit / WINDOW_SIZE - WINDOW_REACH) * ySize + yA + bit % WINDOW_SIZE - WINDOW_REACH;
+            if (state == MINE) {
+                markMine(index);
+            } else {
+                markSafe(index);
+            }
+        }
+    }
+
+    private static int getWindowBit(int dx, int dy) {
+        return (dx + WINDOW_REACH) * WINDOW_SIZE + dy + WINDOW_REACH;
+    }
+
+    private static long[] newNeighbourhoods() {
+        long[] neighbourhoods = new long[WINDOW_SIZE * WINDOW_SIZE];
+        for (int dx = -WINDOW_REACH + 1; dx < WINDOW_REACH; dx++) {
+            for (int dy = -WINDOW_REACH + 1; dy < WINDOW_REACH; dy++) {
+                long neighbourhood = 0;
+                for (int x = dx - 1; x <= dx + 1; x++) {
+                    for (int y = dy - 1; y <= dy + 1; y++) {
+                        if (x != dx || y != dy) neighbourhood |= 1L << getWindowBit(x, y);
+                    }
+                }
+                neighbourhoods[getWindowBit(dx, dy)] = neighbourhood;
+            }
+        }
+        return neighbourhoods;
+    }
+}
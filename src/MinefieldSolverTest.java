@@ -0,0 +1,114 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class MinefieldSolverTest {
+    private static Board newBoard(int xSize, int ySize, int... mines) {
+        Board board = new ByteBoard(xSize, ySize);
+        board.placeMines(mines);
+        board.countMinesAround(false);
+        return board;
+    }
+
+    private static Minefield newExpertField(long seed, MinePlacer minePlacer) {
+        Minefield field = new Minefield(30, 16, 99 / 480F,
+                new MinefieldConfig().setSeed(seed).setMinePlacer(minePlacer));
+        field.init(15, 8);
+        return field;
+    }
+
+    private static int[] minesOf(Minefield field) {
+        Board board = field.getBoard();
+        IntList mines = new IntList();
+        for (int index = 0; index < board.getNumberOfTiles(); index++) {
+            if (CellState.isMine(board.getCell(index))) mines.add(index);
+        }
+        return mines.toArray();
+    }
+
+    @Test
+    public void solverDeducesMinesFromSingleConstraints() {
+        Board board = newBoard(4, 2, 3 * 2, 3 * 2 + 1);
+        assertTrue(new MinefieldSolver(board, 2).solve(0));
+    }
+
+    @Test
+    public void solverDoesNotGuessAFiftyFifty() {
+        Board board = newBoard(4, 2, 3 * 2);
+        assertFalse(new MinefieldSolver(board, 1).solve(0));
+    }
+
+    @Test
+    public void solverUsesPairsOfConstraints() {
+        // single constraints and the number of mines do not decide this board
+        Board board = newBoard(3, 4, 4 + 2);
+        assertTrue(new MinefieldSolver(board, 1).solve(0));
+    }
+
+    @Test
+    public void solverUsesTheNumberOfMines() {
+        Board board = newBoard(3, 3);
+        assertTrue(new MinefieldSolver(board, 0).solve(4));
+    }
+
+    @Test
+    public void noGuessFieldsAreSolvableFromTheFirstClick() {
+        for (long seed = 0; seed < 20; seed++) {
+            Minefield field = newExpertField(seed, new NoGuessMinePlacer());
+            int[] mines = minesOf(field);
+            assertEquals(99, mines.length);
+            assertTrue(new MinefieldSolver(field.getBoard(), mines.length).solve(15 * 16 + 8));
+        }
+    }
+
+    @Test
+    public void parallelSearchChoosesTheSameLayoutAsSequentialSearch() {
+        for (long seed = 0; seed < 5; seed++) {
+            Minefield sequential = newExpertField(seed, new NoGuessMinePlacer(new FisherYatesMinePlacer(),
+                    ForkJoinPool.commonPool(), 1, 10_000));
+            Minefield parallel = newExpertField(seed, new NoGuessMinePlacer(new FisherYatesMinePlacer(),
+                    new ForkJoinPool(4), 4, 10_000));
+            assertArrayEquals(minesOf(sequential), minesOf(parallel));
+        }
+    }
+
+    @Test
+    public void impossibleLayoutsAreReported() {
+        assertThrows(IllegalStateException.class, () -> new Minefield(8, 8, 0.9F,
+                new MinefieldConfig().setMinePlacer(new NoGuessMinePlacer(new FisherYatesMinePlacer(),
+                        ForkJoinPool.commonPool(), 1, 100))).init(4, 4));
+    }
+
+    @Test
+    public void autoPlayerWinsNoGuessFieldsWithoutGuessing() {
+        for (long seed = 0; seed < 10; seed++) {
+            Minefield field = newExpertField(seed, new NoGuessMinePlacer());
+            AutoPlayer player = new AutoPlayer(field);
+            assertEquals(GameStatus.WON, player.play(15, 8));
+            assertEquals(0, player.getGuesses());
+        }
+    }
+
+    @Test
+    public void autoPlayerWinsMostBeginnerGames() {
+        int won = 0;
+        for (long seed = 0; seed < 200; seed++) {
+            Minefield field = new Minefield(9, 9, 10 / 81F, new MinefieldConfig().setSeed(seed));
+            GameStatus status = new AutoPlayer(field).play(4, 4);
+            assertNotEquals(GameStatus.RUNNING, status);
+            if (status == GameStatus.WON) won++;
+        }
+        assertTrue(won > 150);
+    }
+
+    @Test
+    public void autoPlayerContinuesAPlayedGame() {
+        Minefield field = newExpertField(3, new NoGuessMinePlacer());
+        field.uncoverTiles(15, 8);
+        field.alterTileFlagged(0, 0);
+        assertEquals(GameStatus.WON, new AutoPlayer(field).play(15, 8));
+    }
+}
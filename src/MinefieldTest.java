@@ -1,6 +1,12 @@
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -27,6 +33,13 @@ public class MinefieldTest {
             this.field = new Minefield(xSize, ySize, minePercentage);
         }
 
+        MinefieldTestInterface(int size, float minePercentage, MinefieldConfig config) {
+            this.xSize = size;
+            this.ySize = size;
+            this.minePercentage = minePercentage;
+            this.field = new Minefield(xSize, ySize, minePercentage, config);
+        }
+
         /*
         interface to minefield
          */
@@ -684,4 +697,531 @@ public class MinefieldTest {
         f.uncoverTiles(0, 2);
         assertFalse(f.isTileUncovered(2, 1) && f.isTileUncovered(2, 2) && f.isTileUncovered(2, 3));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void selectionSamplingPlacesGivenPercentageOfMines() {
+        MinefieldTestInterface f = new MinefieldTestInterface(10, 0.5F,
+                new MinefieldConfig().setMinePlacer(new SelectionSamplingMinePlacer()));
+        f.init(1, 1);
+        assertEquals(f.getExpectedNumMines(), f.getActualNumMines());
+    }
+
+    @Test
+    public void selectionSamplingKeepsTilesAroundInitPositionFree() {
+        MinefieldTestInterface f = new MinefieldTestInterface(10, 0.91F,
+                new MinefieldConfig().setMinePlacer(new SelectionSamplingMinePlacer()));
+        f.init(4, 4);
+        assertTrue(f.noMinesAroundAndAtPos(4, 4));
+    }
+
+    @Test
+    public void selectionSamplingCanInitializeMinefieldWithOnlyOneNonMineTile() {
+        MinefieldTestInterface f = new MinefieldTestInterface(10, 0.99F,
+                new MinefieldConfig().setMinePlacer(new SelectionSamplingMinePlacer()));
+        f.init(1, 1);
+        assertEquals(8, f.getMinesAround(1, 1));
+    }
+
+    /**
+     * <p><b>NOTE</b>: Like {@link #generatesLargerMinefieldWithHighMinePercentageEasily()} this test only
+     * indicates a slow placement algorithm.</p>
+     */
+    @Test
+    public void generatesVeryLargeMinefieldEasily() {
+        MinefieldTestInterface f = new MinefieldTestInterface(1000, 0.2F);
+        f.init(500, 500);
+        assertEquals(f.getExpectedNumMines(), f.getActualNumMines());
+    }
+
+    @Test
+    public void tilesArrayFetchedBeforeInitializationShowsLaterChanges() {
+        Tile[][] tileArray = minefield099.getTilesArray();
+        minefield099.init(1, 1);
+        minefield099.alterTileFlagged(0, 0);
+        minefield099.uncoverTiles(1, 1);
+        assertEquals(8, tileArray[1][1].getMinesAround());
+        assertTrue(tileArray[1][1].isUncovered());
+        assertTrue(tileArray[0][0].isFlagged());
+        assertTrue(tileArray[minefield099.xSize - 1][minefield099.ySize - 1].isMine());
+    }
+
+    @Test
+    public void uncoversLargeMinefieldWithoutMinesFromOneTile() {
+        MinefieldTestInterface f = new MinefieldTestInterface(2000, 0F);
+        f.init(1000, 1000);
+        f.uncoverTiles(1000, 1000);
+        assertTrue(f.isTileUncovered(0, 0));
+        assertTrue(f.isTileUncovered(f.xSize - 1, f.ySize - 1));
+    }
+
+    @Test
+    public void mineAroundIsSetForAllTilesWhenCountingInParallel() {
+        MinefieldTestInterface f = new MinefieldTestInterface(60, 0.3F,
+                new MinefieldConfig().setCountMinesAroundInParallel(true));
+        f.init(30, 30);
+        for (int[] pos : f.getAllPositions()) {
+            assertEquals(f.getMinesAround(pos[0], pos[1]), f.getTileMinesAround(pos));
+        }
+    }
+
+    @Test
+    public void mineAroundIsSetForAllTilesOfNarrowMinefields() {
+        MinefieldTestInterface f = new MinefieldTestInterface(1, 7, 0.5F);
+        f.init(0, 0);
+        for (int[] pos : f.getAllPositions()) {
+            assertEquals(f.getMinesAround(pos[0], pos[1]), f.getTileMinesAround(pos));
+        }
+    }
+
+    @Test
+    public void lazyMinefieldHasSameMinesAroundAsMinesPlaced() {
+        MinefieldTestInterface f = new MinefieldTestInterface(30, 0.3F,
+                new MinefieldConfig().setBoardFactory(LazyBoard::new).setMinePlacer(new FloydMinePlacer()));
+        f.init(5, 5);
+        assertEquals(f.getExpectedNumMines(), f.getActualNumMines());
+        assertTrue(f.noMinesAroundAndAtPos(5, 5));
+        for (int[] pos : f.getAllPositions()) {
+            assertEquals(f.getMinesAround(pos[0], pos[1]), f.getTileMinesAround(pos));
+        }
+    }
+
+    @Test
+    public void lazyMinefieldUncoversAndFlagsLikeDefaultMinefield() {
+        MinefieldTestInterface f = new MinefieldTestInterface(10, 0F,
+                new MinefieldConfig().setBoardFactory(LazyBoard::new));
+        f.init(1, 1);
+        f.alterTileFlagged(0, 0);
+        f.uncoverTiles(5, 5);
+        assertTrue(f.isTileFlagged(0, 0));
+        assertFalse(f.isTileUncovered(0, 0));
+        assertTrue(f.isTileUncovered(9, 9));
+    }
+
+    @Test
+    public void lazyMinefieldCountsMinesOfTilesFlaggedBeforeInit() {
+        MinefieldConfig config = new MinefieldConfig().setSeed(7L);
+        Minefield expected = new Minefield(20, 20, 0.3F, config);
+        Minefield actual = new Minefield(20, 20, 0.3F, config.copy().setBoardFactory(LazyBoard::new));
+        for (Minefield field : new Minefield[] {expected, actual}) {
+            for (int i = 0; i < 20; i++) {
+                field.alterTileFlagged(i, 19 - i);
+            }
+            field.init(10, 10);
+        }
+        for (int i = 0; i < 400; i++) {
+            assertEquals(expected.getBoard().getCell(i), actual.getBoard().getCell(i), "cell " + i);
+        }
+    }
+
+    @Test
+    public void lazyMinefieldOnlyStoresTouchedTiles() {
+        LazyBoard[] board = new LazyBoard[1];
+        Minefield field = new Minefield(40000, 40000, 0.000001F, new MinefieldConfig()
+                .setMinePlacer(new FloydMinePlacer())
+                .setBoardFactory((xSize, ySize) -> board[0] = new LazyBoard(xSize, ySize)));
+        field.init(20000, 20000);
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(39999, 39999);
+        assertEquals(2, board[0].getTouchedTiles());
+    }
+
+    private static boolean[] minesOf(Minefield field) {
+        boolean[] mines = new boolean[field.getXSize() * field.getYSize()];
+        Tile[][] tiles = field.getTilesArray();
+        for (int x = 0; x < field.getXSize(); x++) {
+            for (int y = 0; y < field.getYSize(); y++) {
+                mines[x * field.getYSize() + y] = tiles[x][y].isMine();
+            }
+        }
+        return mines;
+    }
+
+    private static boolean[] seededMines(long seed, MinePlacer minePlacer) {
+        Minefield field = new Minefield(40, 30, 0.3F,
+                new MinefieldConfig().setSeed(seed).setMinePlacer(minePlacer));
+        field.init(7, 11);
+        return minesOf(field);
+    }
+
+    @Test
+    public void sameSeedAndFirstClickGiveSameMines() {
+        for (MinePlacer minePlacer : new MinePlacer[] {new FisherYatesMinePlacer(),
+                new SelectionSamplingMinePlacer(), new FloydMinePlacer()}) {
+            assertArrayEquals(seededMines(42, minePlacer), seededMines(42, minePlacer));
+        }
+    }
+
+    @Test
+    public void differentSeedsGiveDifferentMines() {
+        assertFalse(Arrays.equals(seededMines(1, new FisherYatesMinePlacer()),
+                seededMines(2, new FisherYatesMinePlacer())));
+    }
+
+    @Test
+    public void unseededFieldCanBeRebuiltFromItsSeed() {
+        Minefield field = new Minefield(40, 30, 0.3F);
+        field.init(7, 11);
+        assertArrayEquals(minesOf(field), seededMines(field.getSeed(), new FisherYatesMinePlacer()));
+    }
+
+    @Test
+    public void seededFieldsGeneratedConcurrentlyAreIdentical() throws Exception {
+        boolean[] expected = seededMines(7, new FisherYatesMinePlacer());
+        List<Future<boolean[]>> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> seededMines(7, new FisherYatesMinePlacer())));
+            }
+            for (Future<boolean[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void seededRandomSourceStaysWithinBoundAndCoversIt() {
+        XoroshiroRandomSource random = new XoroshiroRandomSource(3);
+        int[] counts = new int[7];
+        for (int i = 0; i < 70000; i++) {
+            counts[random.nextInt(7)]++;
+        }
+        for (int count : counts) {
+            assertTrue(count > 9000 && count < 11000);
+        }
+        assertNotEquals(random.split().nextLong(), random.split().nextLong());
+    }
+
+    @Test
+    public void uncoverDeltaHoldsTheNewStateOfEveryUncoveredTile() {
+        Minefield field = new Minefield(30, 30, 0.1F);
+        field.init(15, 15);
+        MinefieldDelta delta = field.uncoverTiles(15, 15);
+        int uncovered = 0;
+        for (Tile[] row : field.getTilesArray()) {
+            for (Tile tile : row) {
+                if (tile.isUncovered()) uncovered++;
+            }
+        }
+        assertEquals(uncovered, delta.size());
+        for (int i = 0; i < delta.size(); i++) {
+            Tile tile = field.getTilesArray()[delta.getXPos(i)][delta.getYPos(i)];
+            assertTrue(CellState.isUncovered(delta.getCell(i)));
+            assertEquals(tile.getMinesAround(), CellState.getMinesAround(delta.getCell(i)));
+        }
+        assertTrue(field.uncoverTiles(15, 15).isEmpty());
+    }
+
+    @Test
+    public void flagDeltaHoldsTheFlaggedTile() {
+        Minefield field = new Minefield(10, 10, 0.1F);
+        MinefieldDelta delta = field.alterTileFlagged(2, 3);
+        assertEquals(1, delta.size());
+        assertEquals(2 * 10 + 3, delta.getIndex(0));
+        assertTrue(CellState.isFlagged(delta.getCell(0)));
+        assertFalse(CellState.isFlagged(field.alterTileFlagged(2, 3).getCell(0)));
+    }
+
+    @Test
+    public void listenersReceiveOnlyNonEmptyDeltas() {
+        Minefield field = new Minefield(10, 10, 0F);
+        List<MinefieldDelta> deltas = new ArrayList<>();
+        MinefieldListener listener = deltas::add;
+        field.addListener(listener);
+        field.init(5, 5);
+        field.alterTileFlagged(0, 0);
+        field.uncoverTiles(5, 5);
+        field.uncoverTiles(5, 5);
+        field.removeListener(listener);
+        field.alterTileFlagged(0, 0);
+        assertEquals(2, deltas.size());
+        assertEquals(99, deltas.get(1).size());
+    }
+
+    private static Minefield newFieldWithMineInCorner() {
+        Board board = new ByteBoard(5, 5);
+        board.placeMines(new int[] {0});
+        board.countMinesAround(false);
+        Minefield field = new Minefield(board, 0.04F, new MinefieldConfig());
+        field.uncoverTiles(1, 1);
+        return field;
+    }
+
+    @Test
+    public void chordOnSatisfiedNumberUncoversAndCascadesAroundIt() {
+        Minefield field = newFieldWithMineInCorner();
+        field.alterTileFlagged(0, 0);
+        MinefieldDelta delta = field.chord(1, 1);
+        assertEquals(23, delta.size());
+        assertTrue(field.getTilesArray()[4][4].isUncovered());
+        assertFalse(field.getTilesArray()[0][0].isUncovered());
+    }
+
+    @Test
+    public void chordWithoutEnoughFlagsDoesNothing() {
+        Minefield field = newFieldWithMineInCorner();
+        assertTrue(field.chord(1, 1).isEmpty());
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(0, 0);
+        assertTrue(field.chord(1, 1).isEmpty());
+        assertTrue(field.chord(3, 3).isEmpty());
+    }
+
+    @Test
+    public void chordWithWrongFlagDetonatesTheMine() {
+        Minefield field = newFieldWithMineInCorner();
+        field.alterTileFlagged(0, 1);
+        field.chord(1, 1);
+        assertTrue(field.getTilesArray()[0][0].isDetonated());
+    }
+
+    @Test
+    public void adjacentFlagCountsFollowEveryFlagChange() {
+        Minefield field = new Minefield(12, 9, 0F);
+        Board board = field.getBoard();
+        AdjacentFlagCounter counter = new AdjacentFlagCounter(12, 9);
+        XoroshiroRandomSource random = new XoroshiroRandomSource(11);
+        for (int i = 0; i < 2000; i++) {
+            int index = random.nextInt(12 * 9);
+            board.setCell(index, board.getCell(index) ^ CellState.FLAGGED);
+            counter.flagChanged(index, CellState.isFlagged(board.getCell(index)));
+        }
+        for (int x = 0; x < 12; x++) {
+            for (int y = 0; y < 9; y++) {
+                int flags = 0;
+                for (int i = Math.max(x - 1, 0); i <= Math.min(x + 1, 11); i++) {
+                    for (int j = Math.max(y - 1, 0); j <= Math.min(y + 1, 8); j++) {
+                        if ((i != x || j != y) && CellState.isFlagged(board.getCell(i * 9 + j))) flags++;
+                    }
+                }
+                assertEquals(flags, counter.getFlagsAround(x * 9 + y));
+            }
+        }
+    }
+
+    @Test
+    public void statusFollowsTheGame() {
+        Minefield field = newFieldWithMineInCorner();
+        assertEquals(GameStatus.RUNNING, field.getStatus());
+        assertEquals(1, field.getUncoveredSafeTiles());
+        field.alterTileFlagged(0, 0);
+        field.alterTileFlagged(4, 4);
+        assertEquals(-1, field.getRemainingMines());
+        field.alterTileFlagged(4, 4);
+        assertEquals(0, field.getRemainingMines());
+        field.chord(1, 1);
+        assertEquals(24, field.getUncoveredSafeTiles());
+        assertEquals(GameStatus.WON, field.getStatus());
+    }
+
+    @Test
+    public void uncoveringAMineLosesTheGame() {
+        Minefield field = newFieldWithMineInCorner();
+        field.uncoverTiles(0, 0);
+        assertEquals(1, field.getDetonatedMines());
+        assertEquals(GameStatus.LOST, field.getStatus());
+    }
+
+    @Test
+    public void newFieldIsNotStartedUntilInitialized() {
+        Minefield field = new Minefield(10, 10, 0.2F);
+        assertEquals(GameStatus.NOT_STARTED, field.getStatus());
+        field.init(5, 5);
+        assertEquals(GameStatus.RUNNING, field.getStatus());
+        assertEquals(20, field.getRemainingMines());
+    }
+
+    @Test
+    public void countersMatchTheTilesAfterRandomPlay() {
+        Minefield field = new Minefield(30, 30, 0.1F, new MinefieldConfig().setSeed(8L));
+        field.init(15, 15);
+        XoroshiroRandomSource random = new XoroshiroRandomSource(8);
+        for (int i = 0; i < 300; i++) {
+            int x = random.nextInt(30);
+            int y = random.nextInt(30);
+            switch (random.nextInt(3)) {
+                case 0:
+                    field.alterTileFlagged(x, y);
+                    break;
+                case 1:
+                    field.uncoverTiles(x, y);
+                    break;
+                default:
+                    field.chord(x, y);
+            }
+        }
+        int uncoveredSafeTiles = 0;
+        int flaggedTiles = 0;
+        int detonatedMines = 0;
+        for (Tile[] row : field.getTilesArray()) {
+            for (Tile tile : row) {
+                if (tile.isDetonated()) detonatedMines++;
+                else if (tile.isUncovered()) uncoveredSafeTiles++;
+                if (tile.isFlagged()) flaggedTiles++;
+            }
+        }
+        assertEquals(uncoveredSafeTiles, field.getUncoveredSafeTiles());
+        assertEquals(flaggedTiles, field.getFlaggedTiles());
+        assertEquals(detonatedMines, field.getDetonatedMines());
+        Minefield reloaded = new Minefield(field.getBoard(), 0.1F, new MinefieldConfig());
+        assertEquals(field.getStatus(), reloaded.getStatus());
+        assertEquals(field.getRemainingMines(), reloaded.getRemainingMines());
+    }
+
+    private static int[] getFrontier(Minefield field) {
+        int[] frontier = new int[field.getFrontierSize()];
+        PrimitiveIterator.OfInt iterator = field.getFrontier();
+        for (int i = 0; i < frontier.length; i++) {
+            frontier[i] = iterator.nextInt();
+        }
+        assertFalse(iterator.hasNext());
+        Arrays.sort(frontier);
+        return frontier;
+    }
+
+    private static int[] scanFrontier(Minefield field) {
+        Tile[][] tiles = field.getTilesArray();
+        int ySize = field.getYSize();
+        List<Integer> frontier = new ArrayList<>();
+        for (int xPos = 0; xPos < field.getXSize(); xPos++) {
+            for (int yPos = 0; yPos < ySize; yPos++) {
+                if (tiles[xPos][yPos].isUncovered() || tiles[xPos][yPos].isFlagged()) continue;
+                boolean nextToUncovered = false;
+                for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, field.getXSize() - 1); x++) {
+                    for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                        if (tiles[x][y].isUncovered()) nextToUncovered = true;
+                    }
+                }
+                if (nextToUncovered) frontier.add(xPos * ySize + yPos);
+            }
+        }
+        return frontier.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Test
+    public void newFieldHasNoFrontier() {
+        Minefield field = new Minefield(10, 10, 0.2F);
+        assertEquals(0, field.getFrontierSize());
+        assertFalse(field.getFrontier().hasNext());
+    }
+
+    @Test
+    public void frontierMatchesTheTilesAfterRandomPlay() {
+        Minefield field = new Minefield(40, 30, 0.15F, new MinefieldConfig().setSeed(21L));
+        field.init(20, 15);
+        XoroshiroRandomSource random = new XoroshiroRandomSource(21);
+        for (int i = 0; i < 400; i++) {
+            int x = random.nextInt(40);
+            int y = random.nextInt(30);
+            switch (random.nextInt(3)) {
+                case 0:
+                    field.alterTileFlagged(x, y);
+                    break;
+                case 1:
+                    field.uncoverTiles(x, y);
+                    break;
+                default:
+                    field.chord(x, y);
+            }
+            if (i % 50 == 0) assertArrayEquals(scanFrontier(field), getFrontier(field));
+        }
+        assertArrayEquals(scanFrontier(field), getFrontier(field));
+        Minefield reloaded = new Minefield(field.getBoard(), 0.15F, new MinefieldConfig());
+        assertArrayEquals(scanFrontier(field), getFrontier(reloaded));
+    }
+
+    @Test
+    public void flaggingATileRemovesItFromTheFrontierUntilItIsUnflagged() {
+        Minefield field = newFieldWithMineInCorner();
+        assertArrayEquals(new int[] {0, 1, 2, 5, 7, 10, 11, 12}, getFrontier(field));
+        field.alterTileFlagged(0, 0);
+        assertArrayEquals(new int[] {1, 2, 5, 7, 10, 11, 12}, getFrontier(field));
+        field.alterTileFlagged(0, 0);
+        assertArrayEquals(new int[] {0, 1, 2, 5, 7, 10, 11, 12}, getFrontier(field));
+    }
+
+    private static Minefield newPlayedField(long seed) {
+        Minefield field = new Minefield(40, 30, 0.15F, new MinefieldConfig().setSeed(seed));
+        field.init(20, 15);
+        return field;
+    }
+
+    private static int[] getRandomTiles(long seed, int tiles) {
+        XoroshiroRandomSource random = new XoroshiroRandomSource(seed);
+        int[] indices = new int[tiles];
+        for (int i = 0; i < tiles; i++) {
+            indices[i] = random.nextInt(40 * 30);
+        }
+        return indices;
+    }
+
+    private static void assertSameField(Minefield expected, Minefield actual) {
+        for (int i = 0; i < expected.getBoard().getNumberOfTiles(); i++) {
+            assertEquals(expected.getBoard().getCell(i), actual.getBoard().getCell(i), "tile " + i);
+        }
+        assertEquals(expected.getUncoveredSafeTiles(), actual.getUncoveredSafeTiles());
+        assertEquals(expected.getFlaggedTiles(), actual.getFlaggedTiles());
+        assertEquals(expected.getDetonatedMines(), actual.getDetonatedMines());
+        assertEquals(expected.getFrontierSize(), actual.getFrontierSize());
+    }
+
+    @Test
+    public void batchUncoverEqualsUncoveringOneByOne() {
+        Minefield expected = newPlayedField(25);
+        Minefield actual = newPlayedField(25);
+        int[] indices = getRandomTiles(25, 60);
+        int uncovered = 0;
+        for (int index : indices) {
+            uncovered += expected.uncoverTiles(index / 30, index % 30).size();
+        }
+        MinefieldDelta delta = actual.applyBatch(MinefieldJournal.UNCOVER, indices);
+        assertEquals(uncovered, delta.size());
+        assertSameField(expected, actual);
+    }
+
+    @Test
+    public void batchFlagTogglesEveryTileOnce() {
+        Minefield field = newPlayedField(25);
+        MinefieldDelta delta = field.applyBatch(MinefieldJournal.FLAG, new int[] {0, 31, 0, 1199, 31});
+        assertEquals(3, delta.size());
+        assertEquals(3, field.getFlaggedTiles());
+        assertTrue(field.getTilesArray()[1][1].isFlagged());
+        field.applyBatch(MinefieldJournal.FLAG, new int[] {31});
+        assertFalse(field.getTilesArray()[1][1].isFlagged());
+    }
+
+    @Test
+    public void batchChordUncoversAroundEverySatisfiedNumber() {
+        Minefield expected = newFieldWithMineInCorner();
+        Minefield actual = newFieldWithMineInCorner();
+        for (Minefield field : new Minefield[] {expected, actual}) {
+            field.alterTileFlagged(0, 0);
+        }
+        expected.chord(1, 1);
+        MinefieldDelta delta = actual.applyBatch(MinefieldJournal.CHORD, new int[] {6, 6, 24});
+        assertEquals(23, delta.size());
+        assertSameField(expected, actual);
+    }
+
+    @Test
+    public void batchRejectsUnknownOperationsAndTilesOutsideTheField() {
+        Minefield field = newPlayedField(25);
+        assertThrows(IllegalArgumentException.class, () -> field.applyBatch(MinefieldJournal.INIT, new int[] {0}));
+        assertThrows(IllegalArgumentException.class, () -> field.applyBatch(MinefieldJournal.FLAG, new int[] {1200}));
+        assertEquals(0, field.getFlaggedTiles());
+    }
+
+    @Test
+    public void commandsRejectPositionsOutsideTheField() {
+        Minefield field = new Minefield(5, 5, 0.2F);
+        assertThrows(IndexOutOfBoundsException.class, () -> field.init(0, 7));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.alterTileFlagged(0, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.uncoverTiles(1, -1));
+        assertThrows(IndexOutOfBoundsException.class, () -> field.chord(5, 0));
+        assertEquals(GameStatus.NOT_STARTED, field.getStatus());
+        assertEquals(0, field.getFlaggedTiles());
+        assertEquals(0, field.getUncoveredSafeTiles());
+    }
+}
@@ -0,0 +1,64 @@
+import java.util.stream.IntStream;
+
+/**
+ * <p>Sets the number of mines around every tile of a {@link Board}.</p>
+ * <p>Rows are swept with running sums: the mines of the three neighbouring rows are summed per column once
+ * and a tile's count is the sum of three adjacent column sums minus the tile itself.</p>
+ */
+public final class MinesAroundCounter {
+    private static final int STRIPES_PER_THREAD = 4;
+
+    private MinesAroundCounter() {
+    }
+
+    public static void count(Board board) {
+        count(board, 0, board.getXSize());
+    }
+
+    /**
+     * <p>Counts in row stripes on the common {@link java.util.concurrent.ForkJoinPool}.</p>
+     * <p>The board must allow concurrent writes to different tiles.</p>
+     */
+    public static void countParallel(Board board) {
+        int xSize = board.getXSize();
+        int stripes = Math.min(xSize, Runtime.getRuntime().availableProcessors() * STRIPES_PER_THREAD);
+        if (stripes <= 1) {
+            count(board);
+            return;
+        }
+        IntStream.range(0, stripes).parallel()
+                .forEach(stripe -> count(board, (int) ((long) xSize * stripe / stripes),
+                        (int) ((long) xSize * (stripe + 1) / stripes)));
+    }
+
+    static void count(Board board, int fromX, int toX) {
+        int xSize = board.getXSize();
+        int ySize = board.getYSize();
+        int[] columnSums = new int[ySize];
+        for (int x = fromX; x < toX; x++) {
+            for (int y = 0; y < ySize; y++) {
+                int sum = 0;
+                if (x > 0) sum += getMine(board, (x - 1) * ySize + y);
+                sum += getMine(board, x * ySize + y);
+                if (x < xSize - 1) sum += getMine(board, (x + 1) * ySize + y);
+                columnSums[y] = sum;
+            }
+            int window = columnSums[0];
+            for (int y = 0; y < ySize; y++) {
+                if (y + 1 < ySize) window += columnSums[y + 1];
+                int index = x * ySize + y;
+                int cell = board.getCell(index);
+                board.setCell(index, CellState.withMinesAround(cell, window - getMine(cell)));
+                if (y > 0) window -= columnSums[y - 1];
+            }
+        }
+    }
+
+    private static int getMine(Board board, int index) {
+        return getMine(board.getCell(index));
+    }
+
+    private static int getMine(int cell) {
+        return (cell & CellState.MINE) >>> 4;
+    }
+}
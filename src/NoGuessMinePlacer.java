@@ -0,0 +1,109 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <p>Places mines so that a {@link MinefieldSolver} clears the field from the first click without guessing.</p>
+ * <p>Candidates are drawn by another placer, outside the same safe tiles, and the first solvable one is taken.
+ * Candidate {@code i} is drawn from its own seed derived from the field's random source, so the chosen layout
+ * only depends on the seed, also when candidates are tried on several threads at once: workers take candidates
+ * in order and only skip the ones behind an already solvable candidate.</p>
+ */
+public class NoGuessMinePlacer implements MinePlacer {
+    private static final int DEFAULT_MAX_CANDIDATES = 100_000;
+    private final MinePlacer candidatePlacer;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final int maxCandidates;
+
+    public NoGuessMinePlacer() {
+        this(new FisherYatesMinePlacer(), ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors(),
+                DEFAULT_MAX_CANDIDATES);
+    }
+
+    public NoGuessMinePlacer(MinePlacer candidatePlacer, ForkJoinPool pool, int parallelism, int maxCandidates) {
+        this.candidatePlacer = candidatePlacer;
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public int[] placeMines(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate,
+                            RandomSource random) {
+        long seed = (long) random.nextInt(Integer.MAX_VALUE) << 31 | random.nextInt(Integer.MAX_VALUE);
+        Search search = new Search(xSize, ySize, initPos, safeTiles, minesToCreate, seed);
+        if (parallelism <= 1) {
+            search.run();
+        } else {
+            List<Callable<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(() -> {
+                    search.run();
+                    return null;
+                });
+            }
+            pool.invokeAll(workers);
+        }
+        if (search.minePositions == null) {
+            throw new IllegalStateException("no solvable layout of " + minesToCreate + " mines on " + xSize + "x"
+                    + ySize + " tiles in " + maxCandidates + " candidates");
+        }
+        return search.minePositions;
+    }
+
+    private class Search implements Runnable {
+        private final int xSize;
+        private final int ySize;
+        private final int initPos;
+        private final int[] safeTiles;
+        private final int minesToCreate;
+        private final long seed;
+        private final AtomicInteger nextCandidate = new AtomicInteger();
+        private int solvableCandidate = Integer.MAX_VALUE;
+        private int[] minePositions;
+
+        Search(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate, long seed) {
+            this.xSize = xSize;
+            this.ySize = ySize;
+            this.initPos = initPos;
+            this.safeTiles = safeTiles;
+            this.minesToCreate = minesToCreate;
+            this.seed = seed;
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                int candidate = nextCandidate.getAndIncrement();
+                if (candidate >= maxCandidates || candidate > getSolvableCandidate()) return;
+                RandomSource candidateRandom = new XoroshiroRandomSource(seed + candidate * 0x9E3779B97F4A7C15L);
+                int[] mines = candidatePlacer.placeMines(xSize, ySize, initPos, safeTiles, minesToCreate,
+                        candidateRandom);
+                if (isSolvable(mines)) {
+                    found(candidate, mines);
+                    return;
+                }
+            }
+        }
+
+        private boolean isSolvable(int[] mines) {
+            Board board = new ByteBoard(xSize, ySize);
+            board.placeMines(mines);
+            MinesAroundCounter.count(board);
+            return new MinefieldSolver(board, mines.length).solve(initPos);
+        }
+
+        private synchronized int getSolvableCandidate() {
+            return solvableCandidate;
+        }
+
+        private synchronized void found(int candidate, int[] mines) {
+            if (candidate > solvableCandidate) return;
+            solvableCandidate = candidate;
+            minePositions = mines;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <p>Flood fill split into work units of a {@link ForkJoinPool}.</p>
+ * <p>Tiles are claimed in an atomic bitset, so every tile is uncovered by exactly one task. The board is only
+ * read while the tasks run and written afterwards on the calling thread, which is why the result always equals
+ * the one of {@link SequentialRevealEngine}. Pays off for cascades over millions of tiles.</p>
+ * <p>Every cascade is flooded on the calling thread first. Only one that is still growing after
+ * {@value #SEQUENTIAL_SPLITS} times the split threshold of tiles is handed to the pool, so small reveals neither
+ * allocate the board-sized bitset nor wait for a task.</p>
+ */
+public class ParallelRevealEngine implements RevealEngine {
+    private static final int DEFAULT_SPLIT_THRESHOLD = 1024;
+    private static final int SEQUENTIAL_SPLITS = 16;
+    private final ForkJoinPool pool;
+    private final int splitThreshold;
+
+    public ParallelRevealEngine() {
+        this(ForkJoinPool.commonPool(), DEFAULT_SPLIT_THRESHOLD);
+    }
+
+    public ParallelRevealEngine(ForkJoinPool pool, int splitThreshold) {
+        this.pool = pool;
+        this.splitThreshold = Math.max(splitThreshold, 2);
+    }
+
+    @Override
+    public int reveal(Board board, int start, IntList uncovered) {
+        int cell = board.getCell(start);
+        if (CellState.isFlagged(cell)) return 0;
+        int uncoveredTiles = 0;
+        if (!CellState.isUncovered(cell)) {
+            uncoveredTiles++;
+            if (uncovered != null) uncovered.add(start);
+        }
+        cell = SequentialRevealEngine.uncover(board, start, cell);
+        if (!SequentialRevealEngine.isCascading(cell)) return uncoveredTiles;
+        IntList stack = new IntList();
+        stack.add(start);
+        uncoveredTiles += SequentialRevealEngine.flood(board, stack, uncovered, splitThreshold * SEQUENTIAL_SPLITS);
+        if (stack.isEmpty()) return uncoveredTiles;
+        // the tiles on the stack and behind it are uncovered on the board, so the tasks only claim new ones
+        AtomicLongArray claims = new AtomicLongArray((board.getNumberOfTiles() + 63) >>> 6);
+        ConcurrentLinkedQueue<IntList> results = new ConcurrentLinkedQueue<>();
+        pool.invoke(new RevealTask(null, board, claims, results, stack, splitThreshold));
+        for (IntList result : results) {
+            for (int i = 0; i < result.size(); i++) {
+                int index = result.get(i);
+                SequentialRevealEngine.uncover(board, index, board.getCell(index));
+                if (uncovered != null) uncovered.add(index);
+            }
+            uncoveredTiles += result.size();
+        }
+        return uncoveredTiles;
+    }
+
+    private static boolean claim(AtomicLongArray claims, int index) {
+        int word = index >>> 6;
+        long bit = 1L << index;
+        long claimed;
+        do {
+            claimed = claims.get(word);
+            if ((claimed & bit) != 0) return false;
+        } while (!claims.compareAndSet(word, claimed, claimed | bit));
+        return true;
+    }
+
+    private static class RevealTask extends CountedCompleter<Void> {
+        private static final long serialVersionUID = 1L;
+        private final Board board;
+        private final AtomicLongArray claims;
+        private final ConcurrentLinkedQueue<IntList> results;
+        private final IntList stack;
+        private final int splitThreshold;
+
+        RevealTask(RevealTask parent, Board board, AtomicLongArray claims, ConcurrentLinkedQueue<IntList> results,
+                   IntList stack, int splitThreshold) {
+            super(parent);
+            this.board = board;
+            this.claims = claims;
+            this.results = results;
+            this.stack = stack;
+            this.splitThreshold = splitThreshold;
+        }
+
+        @Override
+        public void compute() {
+            IntList uncovered = new IntList();
+            int xSize = board.getXSize();
+            int ySize = board.getYSize();
+            while (!stack.isEmpty()) {
+                if (stack.size() >= splitThreshold) {
+                    addToPendingCount(1);
+                    new RevealTask(this, board, claims, results, splitStack(), splitThreshold).fork();
+                }
+                int index = stack.removeLast();
+                int xPos = index / ySize;
+                int yPos = index % ySize;
+                for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+                    for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                        int around = x * ySize + y;
+                        int aroundCell = board.getCell(around);
+                        if (CellState.isUncovered(aroundCell) || CellState.isFlagged(aroundCell)) continue;
+                        if (!claim(claims, around)) continue;
+                        uncovered.add(around);
+                        if (!CellState.isMine(aroundCell) && CellState.getMinesAround(aroundCell) == 0) {
+                            stack.add(around);
+                        }
+                    }
+                }
+            }
+            results.add(uncovered);
+            tryComplete();
+        }
+
+        private IntList splitStack() {
+            IntList half = new IntList(stack.size());
+            for (int i = stack.size() / 2; i > 0; i--) {
+                half.add(stack.removeLast());
+            }
+            return half;
+        }
+    }
+}
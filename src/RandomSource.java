@@ -0,0 +1,25 @@
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * <p>Source of the random decisions made while generating a field.</p>
+ */
+public interface RandomSource {
+    /**
+     * @return a uniformly distributed value between 0 (inclusive) and {@code bound} (exclusive)
+     */
+    int nextInt(int bound);
+
+    /**
+     * <p>Unseeded source drawing from the {@link ThreadLocalRandom} of the calling thread.</p>
+     */
+    static RandomSource threadLocal() {
+        return bound -> ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    /**
+     * <p>Fast seeded source that always gives the same decisions for the same seed.</p>
+     */
+    static RandomSource seeded(long seed) {
+        return new XoroshiroRandomSource(seed);
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * <p>Uncovers a tile and, if there are no mines around it, the connected area of tiles around it.</p>
+ * <p>Flagged tiles are never uncovered and a cascade stops at tiles with mines around them.</p>
+ */
+public interface RevealEngine {
+    /**
+     * @param uncovered receives the index of every uncovered tile, unless it is {@code null}
+     * @return the number of tiles that have been uncovered
+     */
+    int reveal(Board board, int start, IntList uncovered);
+
+    default int reveal(Board board, int start) {
+        return reveal(board, start, null);
+    }
+
+    /**
+     * <p>Uncovers several tiles, e.g. the moves of a batch. Cascades that meet are only traversed once, because a
+     * cascade stops at uncovered tiles.</p>
+     * @param uncovered receives the index of every uncovered tile, unless it is {@code null}
+     * @return the number of tiles that have been uncovered
+     */
+    default int reveal(Board board, int[] starts, IntList uncovered) {
+        int uncoveredTiles = 0;
+        for (int start : starts) {
+            uncoveredTiles += reveal(board, start, uncovered);
+        }
+        return uncoveredTiles;
+    }
+}
@@ -0,0 +1,109 @@
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+public class RevealEngineTest {
+    private static Board newBoard(int xSize, int ySize, float minePercentage) {
+        Board board = new ByteBoard(xSize, ySize);
+        int minesToCreate = (int) (xSize * ySize * minePercentage);
+        int initPos = xSize / 2 * ySize + ySize / 2;
+        int[] minePositions = new FisherYatesMinePlacer().placeMines(xSize, ySize, initPos, new int[] {initPos},
+                minesToCreate, RandomSource.threadLocal());
+        for (int index : minePositions) {
+            board.setCell(index, CellState.MINE);
+        }
+        for (int xPos = 0; xPos < xSize; xPos++) {
+            for (int yPos = 0; yPos < ySize; yPos++) {
+                int nMines = 0;
+                for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+                    for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                        if (CellState.isMine(board.getCell(x * ySize + y))) nMines++;
+                    }
+                }
+                int index = xPos * ySize + yPos;
+                int cell = board.getCell(index);
+                if (CellState.isMine(cell)) nMines--;
+                board.setCell(index, CellState.withMinesAround(cell, nMines));
+            }
+        }
+        return board;
+    }
+
+    private static Board copyOf(Board board) {
+        Board copy = new ByteBoard(board.getXSize(), board.getYSize());
+        for (int i = 0; i < board.getNumberOfTiles(); i++) {
+            copy.setCell(i, board.getCell(i));
+        }
+        return copy;
+    }
+
+    private static void assertSameCells(Board expected, Board actual) {
+        for (int i = 0; i < expected.getNumberOfTiles(); i++) {
+            assertEquals(expected.getCell(i), actual.getCell(i));
+        }
+    }
+
+    private final RevealEngine sequential = new SequentialRevealEngine();
+    private final RevealEngine parallel = new ParallelRevealEngine(ForkJoinPool.commonPool(), 4);
+
+    @Test
+    public void parallelRevealUncoversSameTilesAsSequentialReveal() {
+        Board board = newBoard(300, 200, 0.1F);
+        Board copy = copyOf(board);
+        int start = 150 * 200 + 100;
+        assertEquals(sequential.reveal(board, start), parallel.reveal(copy, start));
+        assertSameCells(board, copy);
+    }
+
+    @Test
+    public void parallelRevealRespectsFlaggedTiles() {
+        Board board = newBoard(200, 200, 0.05F);
+        for (int i = 0; i < board.getNumberOfTiles(); i += 7) {
+            board.setCell(i, board.getCell(i) | CellState.FLAGGED);
+        }
+        Board copy = copyOf(board);
+        int start = 100 * 200 + 100;
+        sequential.reveal(board, start);
+        parallel.reveal(copy, start);
+        assertSameCells(board, copy);
+    }
+
+    @Test
+    public void parallelRevealUncoversWholeMinefieldWithoutMines() {
+        Board board = newBoard(300, 300, 0F);
+        assertEquals(300 * 300, parallel.reveal(board, 0));
+        assertEquals(0, parallel.reveal(board, 0));
+    }
+
+    @Test
+    public void revealOfMineDetonatesOnlyThatMine() {
+        Board board = newBoard(20, 20, 0.5F);
+        int mine = 0;
+        while (!CellState.isMine(board.getCell(mine))) mine++;
+        assertEquals(1, parallel.reveal(board, mine));
+        assertTrue(CellState.isDetonated(board.getCell(mine)));
+    }
+
+    @Test
+    public void revealReportsExactlyTheUncoveredTiles() {
+        for (RevealEngine engine : new RevealEngine[] {sequential, parallel}) {
+            Board board = newBoard(200, 200, 0.1F);
+            Board before = copyOf(board);
+            IntList uncovered = new IntList();
+            int uncoveredTiles = engine.reveal(board, 100 * 200 + 100, uncovered);
+            assertEquals(uncoveredTiles, uncovered.size());
+            int[] indices = uncovered.toArray();
+            Arrays.sort(indices);
+            int next = 0;
+            for (int i = 0; i < board.getNumberOfTiles(); i++) {
+                boolean changed = before.getCell(i) != board.getCell(i);
+                assertEquals(changed, next < indices.length && indices[next] == i);
+                if (changed) next++;
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * <p>Places mines with selection sampling (Knuth's Algorithm S).</p>
+ * <p>Visits every tile once like {@link FisherYatesMinePlacer}, but only allocates the result. The returned
+ * indices are sorted ascending.</p>
+ */
+public class SelectionSamplingMinePlacer implements MinePlacer {
+    @Override
+    public int[] placeMines(int xSize, int ySize, int initPos, int[] safeTiles, int minesToCreate,
+                             RandomSource random) {
+        int numberOfTiles = xSize * ySize;
+        int candidatesLeft = numberOfTiles - safeTiles.length;
+        if (minesToCreate > candidatesLeft) {
+            throw new IllegalArgumentException("cannot place " + minesToCreate + " mines on " + candidatesLeft + " tiles");
+        }
+        int[] minePositions = new int[minesToCreate];
+        int createdMines = 0;
+        int nextSafe = 0;
+        for (int pos = 0; pos < numberOfTiles && createdMines < minesToCreate; pos++) {
+            if (nextSafe < safeTiles.length && safeTiles[nextSafe] == pos) {
+                nextSafe++;
+                continue;
+            }
+            if (random.nextInt(candidatesLeft) < minesToCreate - createdMines) {
+                minePositions[createdMines++] = pos;
+            }
+            candidatesLeft--;
+        }
+        return minePositions;
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * <p>Flood fill on a primitive work stack.</p>
+ * <p>A tile is uncovered when it is pushed, so every tile enters the stack at most once and nothing is
+ * allocated per uncovered tile.</p>
+ */
+public class SequentialRevealEngine implements RevealEngine {
+    @Override
+    public int reveal(Board board, int start, IntList uncovered) {
+        IntList stack = new IntList();
+        int uncoveredTiles = uncoverStart(board, start, uncovered, stack);
+        return uncoveredTiles + flood(board, stack, uncovered, Integer.MAX_VALUE);
+    }
+
+    /**
+     * <p>Uncovers all starts first and then floods from all of them on one stack.</p>
+     */
+    @Override
+    public int reveal(Board board, int[] starts, IntList uncovered) {
+        IntList stack = new IntList();
+        int uncoveredTiles = 0;
+        for (int start : starts) {
+            uncoveredTiles += uncoverStart(board, start, uncovered, stack);
+        }
+        return uncoveredTiles + flood(board, stack, uncovered, Integer.MAX_VALUE);
+    }
+
+    private static int uncoverStart(Board board, int start, IntList uncovered, IntList stack) {
+        int cell = board.getCell(start);
+        if (CellState.isFlagged(cell)) return 0;
+        int uncoveredTiles = 0;
+        if (!CellState.isUncovered(cell)) {
+            uncoveredTiles++;
+            if (uncovered != null) uncovered.add(start);
+        }
+        cell = uncover(board, start, cell);
+        if (isCascading(cell)) stack.add(start);
+        return uncoveredTiles;
+    }
+
+    /**
+     * <p>Floods from the tiles on the stack, which must already be uncovered, until it is empty or
+     * {@code maxExpandedTiles} tiles have been taken from it.</p>
+     */
+    static int flood(Board board, IntList stack, IntList uncovered, int maxExpandedTiles) {
+        int uncoveredTiles = 0;
+        int xSize = board.getXSize();
+        int ySize = board.getYSize();
+        for (int expanded = 0; !stack.isEmpty() && expanded < maxExpandedTiles; expanded++) {
+            int index = stack.removeLast();
+            int xPos = index / ySize;
+            int yPos = index % ySize;
+            for (int x = Math.max(xPos - 1, 0); x <= Math.min(xPos + 1, xSize - 1); x++) {
+                for (int y = Math.max(yPos - 1, 0); y <= Math.min(yPos + 1, ySize - 1); y++) {
+                    int around = x * ySize + y;
+                    int aroundCell = board.getCell(around);
+                    if (CellState.isUncovered(aroundCell) || CellState.isFlagged(aroundCell)) continue;
+                    aroundCell = uncover(board, around, aroundCell);
+                    uncoveredTiles++;
+                    if (uncovered != null) uncovered.add(around);
+                    if (isCascading(aroundCell)) stack.add(around);
+                }
+            }
+        }
+        return uncoveredTiles;
+    }
+
+    static int uncover(Board board, int index, int cell) {
+        if (CellState.isMine(cell)) cell |= CellState.DETONATED;
+        cell |= CellState.UNCOVERED;
+        board.setCell(index, cell);
+        return cell;
+    }
+
+    static boolean isCascading(int cell) {
+        return !CellState.isDetonated(cell) && CellState.getMinesAround(cell) == 0;
+    }
+}
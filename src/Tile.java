@@ -1,47 +1,64 @@
+/**
+ * <p>View of a single tile of a {@link Board}.</p>
+ */
 public class Tile {
-    private boolean uncovered = false;
-    private boolean flagged = false;
-    private boolean mine = false;
-    private int minesAround = 0;
-    private boolean detonated = false;
+    private final Board board;
+    private final int index;
+
+    public Tile() {
+        this(new ByteBoard(1, 1), 0);
+    }
+
+    Tile(Board board, int index) {
+        this.board = board;
+        this.index = index;
+    }
 
     public boolean isUncovered() {
-        return uncovered;
+        return CellState.isUncovered(getCell());
     }
 
     public boolean isFlagged() {
-        return flagged;
+        return CellState.isFlagged(getCell());
     }
 
     public int getMinesAround() {
-        return minesAround;
+        return CellState.getMinesAround(getCell());
     }
 
     public boolean isMine() {
-        return mine;
+        return CellState.isMine(getCell());
     }
 
     public boolean isDetonated() {
-        return detonated;
+        return CellState.isDetonated(getCell());
     }
 
     public void uncover() {
-        uncovered = true;
+        setCell(getCell() | CellState.UNCOVERED);
     }
 
     public void alterFlagged() {
-        flagged = !flagged;
+        setCell(getCell() ^ CellState.FLAGGED);
     }
 
     public void makeMine() {
-        mine = true;
+        setCell(getCell() | CellState.MINE);
     }
 
     public void setMinesAround(int nMines) {
-        minesAround = nMines;
+        setCell(CellState.withMinesAround(getCell(), nMines));
     }
 
     public void detonate() {
-        detonated = true;
+        setCell(getCell() | CellState.DETONATED);
+    }
+
+    private int getCell() {
+        return board.getCell(index);
+    }
+
+    private void setCell(int cell) {
+        board.setCell(index, cell);
     }
 }
@@ -0,0 +1,62 @@
+/**
+ * <p>Seeded xoroshiro128++ generator, so the same seed always gives the same decisions.</p>
+ * <p>An instance is not thread-safe and is meant to be owned by a single field. Fields generated concurrently
+ * each get their own instance, either from their own seed or by {@link #split()}ting a parent source, so there is
+ * no shared state to contend on.</p>
+ */
+public class XoroshiroRandomSource implements RandomSource {
+    private long s0;
+    private long s1;
+
+    public XoroshiroRandomSource(long seed) {
+        // expand the seed with SplitMix64, which never gives two zero words
+        s0 = mix(seed += 0x9E3779B97F4A7C15L);
+        s1 = mix(seed + 0x9E3779B97F4A7C15L);
+    }
+
+    /*
+    generation
+     */
+    public long nextLong() {
+        long s0 = this.s0;
+        long s1 = this.s1;
+        long result = Long.rotateLeft(s0 + s1, 17) + s0;
+        s1 ^= s0;
+        this.s0 = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21);
+        this.s1 = Long.rotateLeft(s1, 28);
+        return result;
+    }
+
+    /**
+     * <p>Unbiased bounded value by Lemire's multiply-and-reject method, which only divides when a value has to be
+     * rejected.</p>
+     */
+    @Override
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound must be positive, got " + bound);
+        long product = (nextLong() >>> 32) * bound;
+        if (Integer.compareUnsigned((int) product, bound) < 0) {
+            int threshold = (int) ((1L << 32) % bound);
+            while (Integer.compareUnsigned((int) product, threshold) < 0) {
+                product = (nextLong() >>> 32) * bound;
+            }
+        }
+        return (int) (product >>> 32);
+    }
+
+    /**
+     * @return an independent source seeded from this one, for handing to another thread
+     */
+    public XoroshiroRandomSource split() {
+        return new XoroshiroRandomSource(nextLong());
+    }
+
+    /*
+    misc
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}